@@ -3,15 +3,24 @@ package com.github.lipinskipawel.board.ai.bruteforce;
 import com.github.lipinskipawel.board.ai.BoardEvaluator;
 import com.github.lipinskipawel.board.ai.MoveStrategy;
 
+import java.time.Duration;
+
 public final class DefaultMoveStrategyBuilder {
+    private static final int DEFAULT_PARALLEL_TRANSPOSITION_TABLE_SIZE_IN_MB = 16;
     private BoardEvaluator defaultEvaluator;
-    private int timeout;
+    private Duration timeout;
     private int depth;
+    private int transpositionTableSizeInMb;
+    private boolean principalVariationSearch;
+    private int threads;
 
     private DefaultMoveStrategyBuilder() {
         this.defaultEvaluator = new SmartBoardEvaluator();
-        this.timeout = 5;
+        this.timeout = Duration.ofSeconds(5);
         this.depth = 3;
+        this.transpositionTableSizeInMb = 0;
+        this.principalVariationSearch = false;
+        this.threads = 1;
     }
 
     public static DefaultMoveStrategyBuilder aDefaultMoveStrategyBuilder() {
@@ -29,11 +38,79 @@ public final class DefaultMoveStrategyBuilder {
     }
 
     public DefaultMoveStrategyBuilder withTimeoutInSeconds(final int timeout) {
+        return withTimeout(Duration.ofSeconds(timeout));
+    }
+
+    /**
+     * The search is deepened one level at a time up to the depth given by {@link #withDepth(int)}. The best move of
+     * the deepest search completed within the given timeout is returned.
+     *
+     * @param timeout time given to the search for the best move
+     * @return this builder
+     */
+    public DefaultMoveStrategyBuilder withTimeout(final Duration timeout) {
         this.timeout = timeout;
         return this;
     }
 
+    /**
+     * The transposition table keeps results of searched positions, so positions reached by different orders of moves
+     * are not searched again. The table is shared by all searches of the built {@link MoveStrategy} and its memory is
+     * allocated once, when the strategy is built. The table is not used by default.
+     *
+     * @param sizeInMb size of the transposition table in megabytes, must be positive
+     * @return this builder
+     * @throws IllegalArgumentException when sizeInMb is not positive
+     */
+    public DefaultMoveStrategyBuilder withTranspositionTableSizeInMb(final int sizeInMb) {
+        if (sizeInMb < 1) {
+            throw new IllegalArgumentException("Size of the transposition table must be positive, was: " + sizeInMb);
+        }
+        this.transpositionTableSizeInMb = sizeInMb;
+        return this;
+    }
+
+    /**
+     * The built {@link MoveStrategy} searches by negamax with the principal variation search and aspiration windows
+     * instead of the default minimax. It finds the minimax score of the given depth visiting only a fraction of nodes,
+     * so it searches deeper within the same timeout.
+     *
+     * @return this builder
+     */
+    public DefaultMoveStrategyBuilder withPrincipalVariationSearch() {
+        this.principalVariationSearch = true;
+        return this;
+    }
+
+    /**
+     * The built {@link MoveStrategy} searches on the given number of threads. Threads run the principal variation
+     * search, see {@link #withPrincipalVariationSearch()}, and share the transposition table. The table of
+     * {@value #DEFAULT_PARALLEL_TRANSPOSITION_TABLE_SIZE_IN_MB} megabytes is used when its size is not given by
+     * {@link #withTranspositionTableSizeInMb(int)}. The search uses a single thread by default.
+     *
+     * @param threads number of threads of every search, must be positive
+     * @return this builder
+     * @throws IllegalArgumentException when threads is not positive
+     */
+    public DefaultMoveStrategyBuilder withThreads(final int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of threads must be positive, was: " + threads);
+        }
+        this.threads = threads;
+        return this;
+    }
+
     public MoveStrategy build() {
-        return new MiniMaxAlphaBeta(defaultEvaluator, depth, timeout);
+        final var isParallel = threads > 1;
+        final var sizeInMb = isParallel && transpositionTableSizeInMb == 0
+            ? DEFAULT_PARALLEL_TRANSPOSITION_TABLE_SIZE_IN_MB
+            : transpositionTableSizeInMb;
+        final var transpositionTable = sizeInMb == 0
+            ? TranspositionTable.disabled()
+            : TranspositionTable.ofSizeInMb(sizeInMb);
+        if (principalVariationSearch || isParallel) {
+            return new PrincipalVariationSearch(defaultEvaluator, depth, timeout, transpositionTable, threads);
+        }
+        return new MiniMaxAlphaBeta(defaultEvaluator, depth, timeout, transpositionTable);
     }
 }
@@ -3,7 +3,6 @@ package com.github.lipinskipawel.board.ai.bruteforce;
 import com.github.lipinskipawel.board.ai.BoardEvaluator;
 import com.github.lipinskipawel.board.ai.MoveStrategy;
 import com.github.lipinskipawel.board.engine.Board;
-import com.github.lipinskipawel.board.engine.LegalMovesFuture;
 import com.github.lipinskipawel.board.engine.Move;
 
 import java.time.Duration;
@@ -15,22 +14,46 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import static java.lang.Math.max;
 import static java.lang.Math.min;
+import static java.lang.Math.nextDown;
+import static java.lang.Math.nextUp;
 
+/**
+ * This class searches the game tree by iterative deepening. Searches of depth 1, 2 and so on up to the given depth are
+ * run one after another, and the best move of the deepest completed search is returned. The next search is not started
+ * when it is predicted to exceed the time left, because its partial result would be discarded anyway. The time of the
+ * next search is predicted from the growth between the last two completed searches.
+ */
 final class MiniMaxAlphaBeta implements MoveStrategy {
 
+    /**
+     * Growth of the time of the next search used when only one search has been completed.
+     */
+    private static final double DEFAULT_ITERATION_GROWTH = 4.0;
     private final BoardEvaluator evaluator;
     private final int depth;
-    private final int timeout;
+    private final Duration timeout;
     private final AtomicReference<Move> bestMove;
+    private final AtomicReference<Move> completedMove;
+    private final TranspositionTable transpositionTable;
     private volatile boolean cancel;
+    private volatile int completedDepth;
 
     MiniMaxAlphaBeta(final BoardEvaluator defaultEvaluator,
                      final int depth,
-                     final int timeout) {
+                     final Duration timeout) {
+        this(defaultEvaluator, depth, timeout, TranspositionTable.disabled());
+    }
+
+    MiniMaxAlphaBeta(final BoardEvaluator defaultEvaluator,
+                     final int depth,
+                     final Duration timeout,
+                     final TranspositionTable transpositionTable) {
         this.evaluator = defaultEvaluator;
         this.depth = depth;
         this.timeout = timeout;
+        this.transpositionTable = transpositionTable;
         this.bestMove = new AtomicReference<>(Move.emptyMove());
+        this.completedMove = new AtomicReference<>(Move.emptyMove());
         this.cancel = false;
     }
 
@@ -38,7 +61,9 @@ final class MiniMaxAlphaBeta implements MoveStrategy {
         this.evaluator = miniMaxAlphaBeta.evaluator;
         this.depth = miniMaxAlphaBeta.depth;
         this.timeout = miniMaxAlphaBeta.timeout;
+        this.transpositionTable = miniMaxAlphaBeta.transpositionTable;
         this.bestMove = new AtomicReference<>(Move.emptyMove());
+        this.completedMove = new AtomicReference<>(Move.emptyMove());
         this.cancel = false;
     }
 
@@ -46,62 +71,113 @@ final class MiniMaxAlphaBeta implements MoveStrategy {
     public Move searchForTheBestMove(Board<?> board) {
         final var pool = Executors.newSingleThreadExecutor();
         final var copy = new MiniMaxAlphaBeta(this);
+        this.transpositionTable.newSearch();
+        final var deadline = System.nanoTime() + this.timeout.toNanos();
         final var searchingForMove = pool.submit(
-            () -> copy.execute(board, copy.depth)
+            () -> copy.iterativeDeepening(board, deadline)
         );
         try {
-            searchingForMove.get(timeout, TimeUnit.SECONDS);
-            return copy.bestMove.get();
+            searchingForMove.get(this.timeout.toNanos(), TimeUnit.NANOSECONDS);
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
             copy.cancel = true;
-            return copy.bestMove.get();
         } finally {
             pool.shutdown();
         }
+        this.completedDepth = copy.completedDepth;
+        return copy.result();
+    }
+
+    /**
+     * @return depth of the deepest search completed by the last call of {@link #searchForTheBestMove(Board)}, 0 when
+     * no search has been completed or the winning move has been found without searching
+     */
+    int completedDepth() {
+        return this.completedDepth;
+    }
+
+    /**
+     * @return best move of the deepest completed search or the best move found so far when no search has been
+     * completed
+     */
+    private Move result() {
+        final var completed = this.completedMove.get();
+        return completed.equals(Move.emptyMove()) ? this.bestMove.get() : completed;
+    }
+
+    /**
+     * @param board    to search the best move on
+     * @param deadline value of {@link System#nanoTime()} at which the search is cancelled
+     */
+    void iterativeDeepening(final Board<?> board, final long deadline) {
+        final var winningMove = board.findWinningMove();
+        if (winningMove.isPresent()) {
+            this.completedMove.set(winningMove.get());
+            return;
+        }
+        var previousIteration = 0L;
+        for (int currentDepth = 1; currentDepth <= this.depth; currentDepth++) {
+            final var start = System.nanoTime();
+            execute(board, currentDepth);
+            if (this.cancel) {
+                return;
+            }
+            this.completedMove.set(this.bestMove.get());
+            this.completedDepth = currentDepth;
+            final var end = System.nanoTime();
+            final var iteration = end - start;
+            if (deadline - end < predictNextIteration(previousIteration, iteration)) {
+                return;
+            }
+            previousIteration = iteration;
+        }
+    }
+
+    /**
+     * @param previousIteration time of the search before the last one in nanoseconds, 0 when there was none
+     * @param lastIteration     time of the last search in nanoseconds
+     * @return predicted time of the next search in nanoseconds
+     */
+    static long predictNextIteration(final long previousIteration, final long lastIteration) {
+        final var growth = previousIteration > 0
+            ? max(1.0, (double) lastIteration / previousIteration)
+            : DEFAULT_ITERATION_GROWTH;
+        return (long) (lastIteration * growth);
     }
 
     void execute(final Board<?> board, final int depth) {
-        final var actualDepth = this.depth == 1 ? depth : this.depth;
         final var holder = new Holder();
 
-        final var computation = board.allLegalMovesFuture();
-        computation.start(Duration.ofSeconds(this.timeout));
+        board.forEachLegalMoveWhile(move -> processFoundMove(move, board, depth, holder));
+    }
 
-        while (computation.isRunning()) {
-            processFoundMoves(computation, board, actualDepth, holder);
+    private boolean processFoundMove(final Move move,
+                                     final Board<?> board,
+                                     final int actualDepth,
+                                     final Holder holder) {
+        setFirstMoveAsBestOnlyIfGlobalBestMoveIsEmpty(move);
+        if (this.cancel) {
+            return false;
         }
-        processFoundMoves(computation, board, actualDepth, holder);
-    }
 
-    private void processFoundMoves(final LegalMovesFuture legalMovesFuture,
-                                   final Board<?> board,
-                                   int actualDepth,
-                                   final Holder holder) {
-        for (final Move move : legalMovesFuture.partialResult()) {
-            setFirstMoveAsBestOnlyIfGlobalBestMoveIsEmpty(move);
-            if (this.cancel) {
-                legalMovesFuture.cancel();
-                break;
-            }
+        final var afterMove = board.executeMove(move);
 
-            final var afterMove = board.executeMove(move);
-
-            holder.current = minimax(
-                afterMove,
-                actualDepth - 1,
-                0.0,
-                0.0,
-                board.getPlayer().equals(board.getPlayerProvider().first())
-            );
-
-            if (isFirstPlayer(board) && holder.isCurrentGE(holder.highest)) {
-                holder.highest = holder.current;
-                this.bestMove.set(move);
-            } else if (isSecondPlayer(board) && holder.isCurrentLE(holder.lowest)) {
-                holder.lowest = holder.current;
-                this.bestMove.set(move);
-            }
+        // the window is widened by one ulp, so the score of a move as good as the best one so far is exact
+        holder.current = minimax(
+            afterMove,
+            actualDepth - 1,
+            nextDown(holder.highest),
+            nextUp(holder.lowest),
+            board.getPlayer().equals(board.getPlayerProvider().first())
+        );
+
+        if (isFirstPlayer(board) && holder.isCurrentGE(holder.highest)) {
+            holder.highest = holder.current;
+            this.bestMove.set(move);
+        } else if (isSecondPlayer(board) && holder.isCurrentLE(holder.lowest)) {
+            holder.lowest = holder.current;
+            this.bestMove.set(move);
         }
+        return true;
     }
 
     private boolean isFirstPlayer(Board<?> board) {
@@ -118,43 +194,140 @@ final class MiniMaxAlphaBeta implements MoveStrategy {
         }
     }
 
+    /**
+     * Fail-soft alpha-beta search. The score is exact when it lies strictly inside the window (alpha, beta). Otherwise
+     * it is only a bound: the score of the node is not greater than the returned one when it is not greater than
+     * alpha, and not less than the returned one when it is not less than beta.
+     *
+     * @param maximizingPlayer true when the first player has made the move which leads to this node, so the score
+     *                         of this node is the minimum of the scores of its moves
+     */
     private double minimax(final Board<?> board,
                            final int depth,
-                           double alpha,
-                           double beta,
+                           final double alpha,
+                           final double beta,
                            final boolean maximizingPlayer) {
         if (this.cancel || depth <= 0 || board.isGameOver())
             return evaluator.evaluate(board);
 
-        if (!maximizingPlayer) {
-            var maxEval = -Double.MAX_VALUE;
-            final var allMoves = board.allLegalMoves();
-            for (final var move : allMoves) {
-                final var eval = minimax(
-                    board.executeMove(move), depth - 1, alpha, beta, true);
-                maxEval = max(maxEval, eval);
-                beta = min(beta, eval);
-                if (beta >= alpha) {
-                    break;
-                }
+        final var positionKey = board.positionKey();
+        final var entry = this.transpositionTable.probe(positionKey);
+        var transpositionMove = TranspositionTable.NO_MOVE;
+        if (entry != TranspositionTable.NO_ENTRY) {
+            transpositionMove = TranspositionTable.moveIndex(entry);
+            if (TranspositionTable.depth(entry) >= depth && isDecidedBy(entry, alpha, beta)) {
+                return TranspositionTable.score(entry);
             }
-            return maxEval;
-        } else {
-            var minEval = Double.MAX_VALUE;
-            final var allMoves = board.allLegalMoves();
-            for (final var move : allMoves) {
-                final var eval = minimax(
-                    board.executeMove(move), depth - 1, alpha, beta, false);
-                minEval = min(minEval, eval);
-                alpha = max(alpha, eval);
-                if (beta >= alpha) {
-                    break;
+        }
+        final var firstMove = transpositionMove;
+        final var window = new Window(alpha, beta, maximizingPlayer);
+        if (firstMove != TranspositionTable.NO_MOVE) {
+            final var index = new int[]{0};
+            board.forEachLegalMoveWhile(move -> {
+                if (index[0]++ != firstMove) {
+                    return true;
                 }
-            }
-            return minEval;
+                visit(board.executeMove(move), firstMove, depth, window);
+                return false;
+            });
+        }
+        if (!this.cancel && window.isSearching()) {
+            final var index = new int[]{0};
+            board.forEachLegalMoveWhile(move -> {
+                final var current = index[0]++;
+                return current == firstMove || visit(board.executeMove(move), current, depth, window);
+            });
+        }
+        if (!this.cancel) {
+            this.transpositionTable.store(positionKey, depth, bound(window.eval, alpha, beta), window.eval,
+                window.bestMoveIndex);
+        }
+        return window.eval;
+    }
+
+    /**
+     * @param afterMove board after the visited move
+     * @param moveIndex index of the visited move in the order of {@link Board#forEachLegalMoveWhile}
+     * @param depth     of the node which the move is visited from
+     * @param window    of the node which the move is visited from
+     * @return true when the next move should be visited, false on the cut-off or cancellation
+     */
+    private boolean visit(final Board<?> afterMove, final int moveIndex, final int depth, final Window window) {
+        final var eval = minimax(afterMove, depth - 1, window.alpha, window.beta, !window.maximizingPlayer);
+        return window.update(moveIndex, eval) && !this.cancel;
+    }
+
+    /**
+     * @return true when the entry gives the score which the search of the node with the window would return
+     */
+    private static boolean isDecidedBy(final long entry, final double alpha, final double beta) {
+        final var score = TranspositionTable.score(entry);
+        switch (TranspositionTable.bound(entry)) {
+            case TranspositionTable.EXACT:
+                return true;
+            case TranspositionTable.LOWER_BOUND:
+                return score >= beta;
+            default:
+                return score <= alpha;
         }
     }
 
+    /**
+     * The score of the node is a bound when it lies outside the window the node has been searched with, because some
+     * moves were cut off here or below. Only exact scores and bounds outside the window of the later search are
+     * reused by {@link #minimax(Board, int, double, double, boolean)}. The best move of the node is stored in both
+     * cases and visited first when the node is searched again.
+     */
+    private static int bound(final double score, final double alpha, final double beta) {
+        if (score <= alpha) {
+            return TranspositionTable.UPPER_BOUND;
+        }
+        return score >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+    }
+
+    /**
+     * This class holds the state of a single node of the {@link #minimax(Board, int, double, double, boolean)}
+     * search while its children are visited.
+     */
+    private static final class Window {
+        private final boolean maximizingPlayer;
+        double alpha;
+        double beta;
+        double eval;
+        int bestMoveIndex;
+
+        Window(final double alpha, final double beta, final boolean maximizingPlayer) {
+            this.maximizingPlayer = maximizingPlayer;
+            this.alpha = alpha;
+            this.beta = beta;
+            this.eval = maximizingPlayer ? Double.MAX_VALUE : -Double.MAX_VALUE;
+            this.bestMoveIndex = TranspositionTable.NO_MOVE;
+        }
+
+        /**
+         * @param moveIndex index of the move which leads to the child node
+         * @param childEval evaluation of the child node
+         * @return true when the next child should be visited, false on the cut-off
+         */
+        boolean update(final int moveIndex, final double childEval) {
+            final var previousEval = this.eval;
+            if (!this.maximizingPlayer) {
+                this.eval = max(this.eval, childEval);
+                this.alpha = max(this.alpha, childEval);
+            } else {
+                this.eval = min(this.eval, childEval);
+                this.beta = min(this.beta, childEval);
+            }
+            if (this.eval != previousEval || this.bestMoveIndex == TranspositionTable.NO_MOVE) {
+                this.bestMoveIndex = moveIndex;
+            }
+            return isSearching();
+        }
+
+        boolean isSearching() {
+            return this.alpha < this.beta;
+        }
+    }
 
     private static class Holder {
         double highest = -Double.MAX_VALUE;
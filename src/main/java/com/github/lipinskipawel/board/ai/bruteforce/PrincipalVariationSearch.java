@@ -0,0 +1,371 @@
+package com.github.lipinskipawel.board.ai.bruteforce;
+
+import com.github.lipinskipawel.board.ai.BoardEvaluator;
+import com.github.lipinskipawel.board.ai.MoveStrategy;
+import com.github.lipinskipawel.board.engine.Board;
+import com.github.lipinskipawel.board.engine.Move;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This class searches the game tree by negamax with the principal variation search. The score of every node is given
+ * from the point of view of the player to move, which is the score of the {@link BoardEvaluator} for the first player
+ * and the negated score for the second player. Every legal move finishes the move of the player, so players alternate
+ * between levels of the tree.
+ * <p>
+ * The first move of every node is searched with the full window, other moves with the null window which only proves
+ * that they are not better. A move is searched again with the full window only when that proof fails. Moves are
+ * ordered by the best move kept in the {@link TranspositionTable} and the best move of the previous iteration at the
+ * root. Scores are exact for the searched depth, the same as scores of minimax without any pruning.
+ * <p>
+ * Searches are deepened one level at a time as in {@link MiniMaxAlphaBeta}. Every search after the first one starts
+ * with the aspiration window around the score of the previous search and is repeated with the full window when the
+ * score falls outside of it.
+ * <p>
+ * When more than one thread is given, the search is run by that many workers sharing the {@link TranspositionTable}
+ * (Lazy SMP). Every second helper starts one level deeper, so helpers fill the table ahead of the main worker, which
+ * then finds most of its positions already searched. The move of the main worker is returned and helpers are
+ * cancelled as soon as the main worker finishes.
+ */
+final class PrincipalVariationSearch implements MoveStrategy {
+    private static final double INFINITY = Double.POSITIVE_INFINITY;
+    private static final double ASPIRATION_WINDOW = 50;
+    private final BoardEvaluator evaluator;
+    private final int depth;
+    private final Duration timeout;
+    private final TranspositionTable transpositionTable;
+    private final int threads;
+    private final int firstDepth;
+    private final AtomicReference<Move> bestMove;
+    private final AtomicReference<Move> completedMove;
+    private volatile boolean cancel;
+
+    /**
+     * Number of nodes visited by this search. It is accessed only by the searching thread.
+     */
+    private long nodes;
+
+    PrincipalVariationSearch(final BoardEvaluator evaluator,
+                             final int depth,
+                             final Duration timeout,
+                             final TranspositionTable transpositionTable) {
+        this(evaluator, depth, timeout, transpositionTable, 1, 1);
+    }
+
+    PrincipalVariationSearch(final BoardEvaluator evaluator,
+                             final int depth,
+                             final Duration timeout,
+                             final TranspositionTable transpositionTable,
+                             final int threads) {
+        this(evaluator, depth, timeout, transpositionTable, threads, 1);
+    }
+
+    private PrincipalVariationSearch(final BoardEvaluator evaluator,
+                                     final int depth,
+                                     final Duration timeout,
+                                     final TranspositionTable transpositionTable,
+                                     final int threads,
+                                     final int firstDepth) {
+        this.evaluator = evaluator;
+        this.depth = depth;
+        this.timeout = timeout;
+        this.transpositionTable = transpositionTable;
+        this.threads = threads;
+        this.firstDepth = firstDepth;
+        this.bestMove = new AtomicReference<>(Move.emptyMove());
+        this.completedMove = new AtomicReference<>(Move.emptyMove());
+        this.cancel = false;
+        this.nodes = 0;
+    }
+
+    /**
+     * @param search to copy the configuration from
+     * @param worker index of the worker, 0 for the main worker
+     */
+    private PrincipalVariationSearch(final PrincipalVariationSearch search, final int worker) {
+        this(search.evaluator, search.depth, search.timeout, search.transpositionTable, 1, 1 + (worker & 1));
+    }
+
+    @Override
+    public Move searchForTheBestMove(final Board<?> board) {
+        final var pool = Executors.newFixedThreadPool(this.threads);
+        final var workers = new ArrayList<PrincipalVariationSearch>(this.threads);
+        for (int worker = 0; worker < this.threads; worker++) {
+            workers.add(new PrincipalVariationSearch(this, worker));
+        }
+        this.transpositionTable.newSearch();
+        final var deadline = System.nanoTime() + this.timeout.toNanos();
+        final var mainWorker = workers.get(0);
+        final var searchingForMove = pool.submit(
+            () -> mainWorker.iterativeDeepening(board, deadline)
+        );
+        for (var helper : workers.subList(1, workers.size())) {
+            pool.submit(() -> helper.iterativeDeepening(board, deadline));
+        }
+        try {
+            searchingForMove.get(this.timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
+            mainWorker.cancel = true;
+        } finally {
+            cancel(workers.subList(1, workers.size()));
+            pool.shutdown();
+        }
+        return mainWorker.result();
+    }
+
+    private static void cancel(final List<PrincipalVariationSearch> helpers) {
+        for (var helper : helpers) {
+            helper.cancel = true;
+        }
+    }
+
+    /**
+     * @return best move of the deepest completed search or the best move found so far when no search has been
+     * completed
+     */
+    private Move result() {
+        final var completed = this.completedMove.get();
+        return completed.equals(Move.emptyMove()) ? this.bestMove.get() : completed;
+    }
+
+    /**
+     * @param board    to search the best move on
+     * @param deadline value of {@link System#nanoTime()} at which the search is cancelled
+     */
+    void iterativeDeepening(final Board<?> board, final long deadline) {
+        final var winningMove = board.findWinningMove();
+        if (winningMove.isPresent()) {
+            this.completedMove.set(winningMove.get());
+            return;
+        }
+        var previousIteration = 0L;
+        var score = 0.0;
+        for (int currentDepth = this.firstDepth; currentDepth <= this.depth; currentDepth++) {
+            final var start = System.nanoTime();
+            score = aspirationSearch(board, currentDepth, score);
+            if (this.cancel) {
+                return;
+            }
+            this.completedMove.set(this.bestMove.get());
+            final var end = System.nanoTime();
+            final var iteration = end - start;
+            if (deadline - end < MiniMaxAlphaBeta.predictNextIteration(previousIteration, iteration)) {
+                return;
+            }
+            previousIteration = iteration;
+        }
+    }
+
+    private double aspirationSearch(final Board<?> board, final int depth, final double previousScore) {
+        if (depth > this.firstDepth && Double.isFinite(previousScore)) {
+            final var alpha = previousScore - ASPIRATION_WINDOW;
+            final var beta = previousScore + ASPIRATION_WINDOW;
+            final var score = searchRoot(board, depth, alpha, beta);
+            if (this.cancel || (score > alpha && score < beta)) {
+                return score;
+            }
+        }
+        return searchRoot(board, depth, -INFINITY, INFINITY);
+    }
+
+    /**
+     * This method searches the given depth with the full window on the calling thread.
+     *
+     * @param board to search the best move on
+     * @param depth of the search
+     * @return score of the board from the point of view of the player to move
+     */
+    double search(final Board<?> board, final int depth) {
+        return searchRoot(board, depth, -INFINITY, INFINITY);
+    }
+
+    /**
+     * @return best move found by the last search
+     */
+    Move bestMove() {
+        return this.bestMove.get();
+    }
+
+    /**
+     * @return number of nodes visited by all searches of this object
+     */
+    long nodes() {
+        return this.nodes;
+    }
+
+    private double searchRoot(final Board<?> board, final int depth, final double alpha, final double beta) {
+        final var moves = new ArrayList<Move>();
+        board.forEachLegalMove(moves::add);
+        final var previousBest = moves.indexOf(this.bestMove.get());
+        if (previousBest > 0) {
+            moves.add(0, moves.remove(previousBest));
+        }
+        if (moves.isEmpty()) {
+            return perspective(board) * this.evaluator.evaluate(board);
+        }
+        this.bestMove.compareAndSet(Move.emptyMove(), moves.get(0));
+        final var node = new Node(board, depth, alpha, beta);
+        for (int i = 0; i < moves.size(); i++) {
+            if (!node.visit(moves.get(i), i)) {
+                break;
+            }
+        }
+        if (!this.cancel && node.bestMoveIndex != TranspositionTable.NO_MOVE) {
+            this.bestMove.set(moves.get(node.bestMoveIndex));
+        }
+        return node.bestScore;
+    }
+
+    private double principalVariation(final Board<?> board, final int depth, final double alpha, final double beta) {
+        this.nodes++;
+        if (this.cancel) {
+            return 0;
+        }
+        if (depth <= 0 || board.isGameOver()) {
+            return perspective(board) * this.evaluator.evaluate(board);
+        }
+        final var positionKey = board.positionKey();
+        final var entry = this.transpositionTable.probe(positionKey);
+        final var node = new Node(board, depth, alpha, beta);
+        var transpositionMove = TranspositionTable.NO_MOVE;
+        if (entry != TranspositionTable.NO_ENTRY) {
+            transpositionMove = TranspositionTable.moveIndex(entry);
+            if (TranspositionTable.depth(entry) >= depth && node.narrow(entry)) {
+                return TranspositionTable.score(entry);
+            }
+        }
+        final var firstMove = transpositionMove;
+        final var window = node.window();
+        if (firstMove != TranspositionTable.NO_MOVE) {
+            final var index = new int[]{0};
+            board.forEachLegalMoveWhile(move -> {
+                if (index[0]++ != firstMove) {
+                    return true;
+                }
+                node.visit(move, firstMove);
+                return false;
+            });
+        }
+        if (node.isSearching()) {
+            final var index = new int[]{0};
+            board.forEachLegalMoveWhile(move -> {
+                final var current = index[0]++;
+                return current == firstMove || node.visit(move, current);
+            });
+        }
+        if (!this.cancel) {
+            this.transpositionTable.store(positionKey, depth, window.bound(node.bestScore), node.bestScore,
+                node.bestMoveIndex);
+        }
+        return node.bestScore;
+    }
+
+    private static double perspective(final Board<?> board) {
+        return board.getPlayer().equals(board.getPlayerProvider().first()) ? 1 : -1;
+    }
+
+    /**
+     * This class holds the state of a single node of the search while its moves are visited.
+     */
+    private final class Node {
+        private final Board<?> board;
+        private final int depth;
+        private double alpha;
+        private double beta;
+        private boolean isFirstMove;
+        double bestScore;
+        int bestMoveIndex;
+
+        Node(final Board<?> board, final int depth, final double alpha, final double beta) {
+            this.board = board;
+            this.depth = depth;
+            this.alpha = alpha;
+            this.beta = beta;
+            this.isFirstMove = true;
+            this.bestScore = -INFINITY;
+            this.bestMoveIndex = TranspositionTable.NO_MOVE;
+        }
+
+        /**
+         * @param entry of this node kept in the transposition table, searched at least to the depth of this node
+         * @return true when the score of the entry is the score of this node
+         */
+        boolean narrow(final long entry) {
+            final var score = TranspositionTable.score(entry);
+            switch (TranspositionTable.bound(entry)) {
+                case TranspositionTable.EXACT:
+                    return true;
+                case TranspositionTable.LOWER_BOUND:
+                    this.alpha = Math.max(this.alpha, score);
+                    break;
+                default:
+                    this.beta = Math.min(this.beta, score);
+            }
+            return this.alpha >= this.beta;
+        }
+
+        /**
+         * @return window of this node before any move is visited
+         */
+        Window window() {
+            return new Window(this.alpha, this.beta);
+        }
+
+        boolean isSearching() {
+            return !cancel && this.alpha < this.beta;
+        }
+
+        /**
+         * @param move  to visit
+         * @param index of the move
+         * @return true when the next move should be visited, false on the cut-off or cancellation
+         */
+        boolean visit(final Move move, final int index) {
+            if (cancel) {
+                return false;
+            }
+            final var child = this.board.executeMove(move);
+            final double score;
+            if (this.isFirstMove) {
+                score = -principalVariation(child, this.depth - 1, -this.beta, -this.alpha);
+                this.isFirstMove = false;
+            } else {
+                final var nullWindowScore =
+                    -principalVariation(child, this.depth - 1, -Math.nextUp(this.alpha), -this.alpha);
+                score = nullWindowScore > this.alpha && nullWindowScore < this.beta
+                    ? -principalVariation(child, this.depth - 1, -this.beta, -this.alpha)
+                    : nullWindowScore;
+            }
+            if (score > this.bestScore) {
+                this.bestScore = score;
+                this.bestMoveIndex = index;
+            }
+            this.alpha = Math.max(this.alpha, score);
+            return isSearching();
+        }
+    }
+
+    private static final class Window {
+        private final double alpha;
+        private final double beta;
+
+        Window(final double alpha, final double beta) {
+            this.alpha = alpha;
+            this.beta = beta;
+        }
+
+        int bound(final double score) {
+            if (score <= this.alpha) {
+                return TranspositionTable.UPPER_BOUND;
+            }
+            return score >= this.beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.github.lipinskipawel.board.ai.bruteforce;
+
+/**
+ * This class keeps results of already searched positions, so the position reached by another order of moves is not
+ * searched again. Entries are kept in two {@code long[]} arrays of the fixed size, no object is created for an entry.
+ * <p>
+ * Every entry holds the score of the position, the depth of its search, the bound type of the score and the index of
+ * the best move in the order of {@link com.github.lipinskipawel.board.engine.Board#forEachLegalMove}. The score is
+ * kept as a {@code float}. The slot of the position is chosen by the lowest bits of its
+ * {@link com.github.lipinskipawel.board.engine.Board#positionKey()}. The entry of the deeper search is kept when two
+ * positions share the slot, unless it comes from one of the previous searches, see {@link #newSearch()}.
+ * <p>
+ * This class is thread-safe without locks. The key is stored xor-ed with the data, so an entry written partially by
+ * another thread does not match any key and is treated as missing.
+ */
+final class TranspositionTable {
+    static final int EXACT = 1;
+    static final int LOWER_BOUND = 2;
+    static final int UPPER_BOUND = 3;
+    static final long NO_ENTRY = 0;
+    static final int NO_MOVE = -1;
+    static final int MAX_DEPTH = 127;
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+    private static final int MOVE_BITS = 21;
+    private static final int MAX_MOVE_INDEX = (1 << MOVE_BITS) - 2;
+    private static final int BOUND_SHIFT = MOVE_BITS;
+    private static final int DEPTH_SHIFT = BOUND_SHIFT + 2;
+    private static final int GENERATION_SHIFT = DEPTH_SHIFT + 7;
+    private static final int SCORE_SHIFT = 32;
+    private static final TranspositionTable DISABLED = new TranspositionTable(0);
+    private final long[] keys;
+    private final long[] data;
+    private final int mask;
+    private volatile int generation;
+
+    private TranspositionTable(final int entries) {
+        this.keys = new long[entries];
+        this.data = new long[entries];
+        this.mask = entries - 1;
+        this.generation = 0;
+    }
+
+    /**
+     * The number of entries is the largest power of two which fits in the given size.
+     *
+     * @param sizeInMb size of the table in megabytes
+     * @return empty table
+     * @throws IllegalArgumentException when sizeInMb is not positive
+     */
+    static TranspositionTable ofSizeInMb(final int sizeInMb) {
+        if (sizeInMb < 1) {
+            throw new IllegalArgumentException("Size of the transposition table must be positive, was: " + sizeInMb);
+        }
+        final var entries = (long) sizeInMb * 1024 * 1024 / BYTES_PER_ENTRY;
+        return new TranspositionTable((int) Math.min(Long.highestOneBit(entries), 1 << 30));
+    }
+
+    /**
+     * @return table which does not keep any entry
+     */
+    static TranspositionTable disabled() {
+        return DISABLED;
+    }
+
+    boolean isEnabled() {
+        return this != DISABLED;
+    }
+
+    /**
+     * @return number of entries which can be kept in this table
+     */
+    int capacity() {
+        return this.keys.length;
+    }
+
+    /**
+     * Marks entries of all previous searches as replaceable by any entry of the new search.
+     */
+    void newSearch() {
+        this.generation = (this.generation + 1) & 3;
+    }
+
+    /**
+     * @param positionKey of the position
+     * @return data of the entry of the position, to be read by {@link #score(long)}, {@link #depth(long)},
+     * {@link #bound(long)} and {@link #moveIndex(long)}, or {@link #NO_ENTRY} when the position is not kept
+     */
+    long probe(final long positionKey) {
+        if (!isEnabled()) {
+            return NO_ENTRY;
+        }
+        final var slot = (int) positionKey & this.mask;
+        final var entry = this.data[slot];
+        return (this.keys[slot] ^ entry) == positionKey ? entry : NO_ENTRY;
+    }
+
+    /**
+     * @param positionKey of the position
+     * @param depth       of the search of the position, depths above {@link #MAX_DEPTH} are kept as {@link #MAX_DEPTH}
+     * @param bound       {@link #EXACT}, {@link #LOWER_BOUND} or {@link #UPPER_BOUND}
+     * @param score       of the position
+     * @param moveIndex   index of the best move or {@link #NO_MOVE}
+     */
+    void store(final long positionKey, final int depth, final int bound, final double score, final int moveIndex) {
+        if (!isEnabled()) {
+            return;
+        }
+        final var slot = (int) positionKey & this.mask;
+        final var current = this.data[slot];
+        final var generation = this.generation;
+        final var isReplaceable = current == NO_ENTRY
+            || (this.keys[slot] ^ current) == positionKey
+            || generation(current) != generation
+            || depth >= depth(current);
+        if (!isReplaceable) {
+            return;
+        }
+        final var entry = pack(depth, bound, score, moveIndex, generation);
+        this.data[slot] = entry;
+        this.keys[slot] = positionKey ^ entry;
+    }
+
+    static double score(final long entry) {
+        return Float.intBitsToFloat((int) (entry >>> SCORE_SHIFT));
+    }
+
+    static int depth(final long entry) {
+        return (int) (entry >>> DEPTH_SHIFT) & MAX_DEPTH;
+    }
+
+    static int bound(final long entry) {
+        return (int) (entry >>> BOUND_SHIFT) & 3;
+    }
+
+    static int moveIndex(final long entry) {
+        return ((int) entry & ((1 << MOVE_BITS) - 1)) - 1;
+    }
+
+    private static int generation(final long entry) {
+        return (int) (entry >>> GENERATION_SHIFT) & 3;
+    }
+
+    private static long pack(final int depth,
+                             final int bound,
+                             final double score,
+                             final int moveIndex,
+                             final int generation) {
+        final var storedMove = moveIndex < 0 || moveIndex > MAX_MOVE_INDEX ? 0 : moveIndex + 1;
+        return (long) Float.floatToIntBits((float) score) << SCORE_SHIFT
+            | (long) generation << GENERATION_SHIFT
+            | (long) Math.min(depth, MAX_DEPTH) << DEPTH_SHIFT
+            | (long) bound << BOUND_SHIFT
+            | storedMove;
+    }
+}
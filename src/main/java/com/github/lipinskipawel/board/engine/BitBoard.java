@@ -0,0 +1,396 @@
+package com.github.lipinskipawel.board.engine;
+
+import com.github.lipinskipawel.board.engine.exception.ChangePlayerIsNotAllowed;
+import com.github.lipinskipawel.board.internal.NoOpLogger;
+import com.github.lipinskipawel.board.spi.Logger;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * This is an immutable {@link Board} implementation which keeps the state of every point in the packed form described
+ * by {@link PackedPoints}. The whole logical state of the board is an array of {@code long}s, the ball position and one
+ * bit that holds the current player. Executing a move copies only this array instead of all the {@link Point} objects.
+ * <p>
+ * Behaviour of this class is exactly the same as {@link ImmutableBoard}.
+ *
+ * @param <T> type of the player
+ */
+final class BitBoard<T> implements Board<T> {
+    private final Logger logger;
+    private final long[] points;
+    private final int ballPosition;
+    private final T first;
+    private final T second;
+    private final boolean firstToMove;
+    private final MoveHistory moveLog;
+    /**
+     * Key of drawn moves and the ball position, see {@link ZobristKeys}.
+     */
+    private final long pointsKey;
+
+    BitBoard(final PlayerProvider<T> provider) {
+        this(provider, new NoOpLogger());
+    }
+
+    BitBoard(final PlayerProvider<T> provider, final Logger logger) {
+        this(
+            PackedPoints.initialPoints(),
+            Geometry.STARTING_BALL_POSITION,
+            provider.first(),
+            provider.second(),
+            provider.current().equals(provider.first()),
+            new MoveHistory(),
+            ZobristKeys.initialKey(),
+            logger
+        );
+    }
+
+    private BitBoard(final long[] points,
+                     final int ballPosition,
+                     final T first,
+                     final T second,
+                     final boolean firstToMove,
+                     final MoveHistory moveHistory,
+                     final long pointsKey,
+                     final Logger logger) {
+        this.points = points;
+        this.ballPosition = ballPosition;
+        this.first = first;
+        this.second = second;
+        this.firstToMove = firstToMove;
+        this.moveLog = moveHistory;
+        this.pointsKey = pointsKey;
+        this.logger = logger;
+    }
+
+    @Override
+    public List<Direction> allMoves() {
+        return this.moveLog.allDirections();
+    }
+
+    @Override
+    public List<Move> moveHistory() {
+        return this.moveLog.allMoves();
+    }
+
+    @Override
+    public boolean isMoveAllowed(final Direction destination) {
+        return PackedPoints.isAvailable(this.points, this.ballPosition, destination);
+    }
+
+    @Override
+    public BitBoard<T> executeMove(final Direction destination) {
+        if (!isMoveAllowed(destination)) {
+            logger.debug("Move has NOT been made: " + destination);
+            return this;
+        }
+        logger.trace("executeMove: " + destination);
+        final var afterMove = this.points.clone();
+        final var newBallPosition = Geometry.neighbour(this.ballPosition, destination);
+        PackedPoints.makeUnavailable(afterMove, this.ballPosition, destination);
+        PackedPoints.makeUnavailable(afterMove, newBallPosition, destination.opposite());
+
+        final var otherPlayerToMove = PackedPoints.isOtherPlayerToMove(afterMove, newBallPosition);
+        final var moveLogg = otherPlayerToMove
+            ? this.moveLog.addMove(new Move(List.of(destination)))
+            : this.moveLog.add(destination);
+
+        logger.debug("Move has been made: " + destination);
+        return new BitBoard<>(
+            afterMove,
+            newBallPosition,
+            this.first,
+            this.second,
+            otherPlayerToMove != this.firstToMove,
+            moveLogg,
+            this.pointsKey
+                ^ ZobristKeys.edge(this.ballPosition, destination)
+                ^ ZobristKeys.ball(this.ballPosition)
+                ^ ZobristKeys.ball(newBallPosition),
+            this.logger
+        );
+    }
+
+    @Override
+    public Board<T> executeMove(final Move move) {
+        var afterMove = this;
+        for (int i = 0; i < move.length(); i++) {
+            afterMove = afterMove.executeMove(move.directionAt(i));
+        }
+        return afterMove;
+    }
+
+    @Override
+    public BitBoard<T> undo() {
+        logger.trace("undo executes");
+        final var lastDirection = this.moveLog
+            .getLastDirection()
+            .orElseThrow(() -> new RuntimeException("There is no move to undo"));
+        final var afterUndo = this.points.clone();
+        final var previousBallPosition = Geometry.neighbour(this.ballPosition, lastDirection.opposite());
+        PackedPoints.makeAvailable(afterUndo, this.ballPosition, lastDirection.opposite());
+        PackedPoints.makeAvailable(afterUndo, previousBallPosition, lastDirection);
+        final var moveLogg = this.moveLog.forceUndo();
+
+        return new BitBoard<>(
+            afterUndo,
+            previousBallPosition,
+            this.first,
+            this.second,
+            moveLogg.currentPlayer(),
+            moveLogg,
+            this.pointsKey
+                ^ ZobristKeys.edge(previousBallPosition, lastDirection)
+                ^ ZobristKeys.ball(this.ballPosition)
+                ^ ZobristKeys.ball(previousBallPosition),
+            this.logger
+        );
+    }
+
+    @Override
+    public Board<T> undoPlayerMove() {
+        final var another = undo();
+        if (getPlayer().equals(another.getPlayer())) {
+            logger.debug("undoPlayerMove has been made.");
+            return another;
+        }
+        logger.debug("undoPlayerMove has returned THIS reference.");
+        return this;
+    }
+
+    @Override
+    public List<Move> allLegalMoves() {
+        logger.debug("allLegalMoves executed.");
+        final List<Move> result = new ArrayList<>();
+        forEachLegalMove(result::add);
+        logger.debug("allLegalMoves finds: " + result.size() + " moves");
+        return result;
+    }
+
+    @Override
+    public LegalMovesFuture allLegalMovesFuture() {
+        return new LegalMovesFuture(this);
+    }
+
+    @Override
+    public LegalMovesFuture allLegalMovesFuture(final Executor executor) {
+        return new LegalMovesFuture(this, executor);
+    }
+
+    @Override
+    public LegalMovesFuture allLegalMovesFuture(final LegalMovesOptions options) {
+        return new LegalMovesFuture(this, options);
+    }
+
+    @Override
+    public LegalMovesFuture parallelLegalMovesFuture(final ForkJoinPool pool) {
+        return LegalMovesFuture.parallel(this, pool);
+    }
+
+    @Override
+    public void forEachLegalMove(final Consumer<? super Move> action) {
+        new MutableBoard<>(this).forEachLegalMove(action);
+    }
+
+    @Override
+    public boolean forEachLegalMoveWhile(final Predicate<? super Move> action) {
+        return new MutableBoard<>(this).forEachLegalMoveWhile(action);
+    }
+
+    @Override
+    public List<DistinctMove> allDistinctLegalMoves() {
+        return DistinctMoves.of(this);
+    }
+
+    @Override
+    public long countLegalMoves() {
+        return new MutableBoard<>(this).countLegalMoves();
+    }
+
+    @Override
+    public long perft(final int depth) {
+        return new MutableBoard<>(this).perft(depth);
+    }
+
+    @Override
+    public Optional<Move> findWinningMove() {
+        return new MutableBoard<>(this).findWinningMove();
+    }
+
+    @Override
+    public boolean isEveryMoveLosing() {
+        return new MutableBoard<>(this).isEveryMoveLosing();
+    }
+
+    @Override
+    public int getBallPosition() {
+        return this.ballPosition;
+    }
+
+    @Override
+    public Point getBallAPI() {
+        return PackedPoints.toPoint(this.points, this.ballPosition);
+    }
+
+    @Override
+    public boolean isGoal() {
+        return Geometry.isGoal(this.ballPosition);
+    }
+
+    @Override
+    public boolean isGameOver() {
+        return isGoal() || PackedPoints.mask(this.points, this.ballPosition) == 0;
+    }
+
+    @Override
+    public Optional<T> takeTheWinner() {
+        if (!isGameOver())
+            return Optional.empty();
+        if (Geometry.isTopGoal(this.ballPosition)) {
+            return Optional.of(this.first);
+        }
+        if (!isGoal()) {
+            return Optional.of(getPlayer());
+        }
+        return Optional.of(this.second);
+    }
+
+    @Override
+    public Board<T> nextPlayerToMove(final T nextPlayerToMove) throws ChangePlayerIsNotAllowed {
+        if (this.moveLog.isSmallMoveHasBeenMade()) {
+            throw new ChangePlayerIsNotAllowed();
+        }
+        if (nextPlayerToMove.equals(getPlayer())) {
+            logger.debug(nextPlayerToMove + " is the same as current player to move " +
+                getPlayer() +
+                ". Returning THIS reference.");
+            return this;
+        }
+        final var firstToMove = PackedPoints.isOtherPlayerToMove(this.points, this.ballPosition) != this.firstToMove;
+        logger.debug("nextPlayerToMove returns board with player to move " + (firstToMove ? this.first : this.second));
+        return new BitBoard<>(this.points, this.ballPosition, this.first, this.second, firstToMove, this.moveLog, this.pointsKey, logger);
+    }
+
+    @Override
+    public T getPlayer() {
+        return this.firstToMove ? this.first : this.second;
+    }
+
+    @Override
+    public PlayerProvider<T> getPlayerProvider() {
+        final var provider = new PlayerProvider<>(this.first, this.second);
+        return this.firstToMove ? provider : provider.swap();
+    }
+
+    @Override
+    public long positionKey() {
+        var key = this.pointsKey;
+        if (!this.firstToMove) {
+            key ^= ZobristKeys.SECOND_PLAYER_TO_MOVE;
+        }
+        if (this.moveLog.isSmallMoveHasBeenMade()) {
+            key ^= ZobristKeys.SMALL_MOVE;
+        }
+        return key;
+    }
+
+    @Override
+    public int[] transform() {
+        final var result = new int[TRANSFORMATION_LENGTH];
+        transform(result, 0);
+        return result;
+    }
+
+    @Override
+    public double[] nonBinaryTransformation() {
+        final var result = new double[TRANSFORMATION_LENGTH];
+        nonBinaryTransformation(result, 0);
+        return result;
+    }
+
+    @Override
+    public int transform(final int[] destination, final int offset) {
+        return TransformationWriter.transform(this::mask, destination, offset);
+    }
+
+    @Override
+    public int transform(final float[] destination, final int offset) {
+        return TransformationWriter.transform(this::mask, destination, offset);
+    }
+
+    @Override
+    public int transform(final double[] destination, final int offset) {
+        return TransformationWriter.transform(this::mask, destination, offset);
+    }
+
+    @Override
+    public int transform(final FloatBuffer destination, final int index) {
+        return TransformationWriter.transform(this::mask, destination, index);
+    }
+
+    @Override
+    public int nonBinaryTransformation(final double[] destination, final int offset) {
+        return TransformationWriter.nonBinaryTransformation(this::mask, destination, offset);
+    }
+
+    @Override
+    public int nonBinaryTransformation(final float[] destination, final int offset) {
+        return TransformationWriter.nonBinaryTransformation(this::mask, destination, offset);
+    }
+
+    private int mask(final int position) {
+        return PackedPoints.mask(this.points, position);
+    }
+
+    /**
+     * @return copy of the packed points of this board
+     */
+    long[] packedPoints() {
+        return this.points.clone();
+    }
+
+    /**
+     * @return key of drawn moves and the ball position, see {@link ZobristKeys}
+     */
+    long pointsKey() {
+        return this.pointsKey;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BitBoard<?> that = (BitBoard<?>) o;
+        return pointsKey == that.pointsKey &&
+            ballPosition == that.ballPosition &&
+            firstToMove == that.firstToMove &&
+            Arrays.equals(points, that.points) &&
+            Objects.equals(first, that.first) &&
+            Objects.equals(second, that.second) &&
+            Objects.equals(moveLog, that.moveLog);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(positionKey());
+    }
+
+    @Override
+    public String toString() {
+        return "BitBoard{" +
+            "points=" + Arrays.toString(points) +
+            ", ballPosition=" + ballPosition +
+            ", player=" + getPlayer() +
+            ", moveLog=" + moveLog +
+            '}';
+    }
+}
@@ -4,12 +4,22 @@ import com.github.lipinskipawel.board.engine.exception.ChangePlayerIsNotAllowed;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * @param <T> player
  */
 public interface Board<T> extends Transformation {
 
+    /**
+     * Number of values written by every transformation of the board. Every point of the board is described by eight
+     * values, one for each direction.
+     */
+    int TRANSFORMATION_LENGTH = 117 * 8;
+
     /**
      * This method will move the ball in the given direction.
      *
@@ -69,6 +79,102 @@ public interface Board<T> extends Transformation {
      */
     LegalMovesFuture allLegalMovesFuture();
 
+    /**
+     * This method works as {@link #allLegalMovesFuture()} but the computation runs on the given executor. It allows to
+     * share a bounded pool of threads between many computations or to run them on virtual threads.
+     *
+     * @param executor on which the computation is run after {@link LegalMovesFuture#start(java.time.Duration)} is called
+     * @return legalMoveFuture which should be used to compute all legal moves
+     */
+    LegalMovesFuture allLegalMovesFuture(final Executor executor);
+
+    /**
+     * This method works as {@link #allLegalMovesFuture()} but the computation follows the given options. It can be
+     * limited to a number of moves and can find the most promising moves first.
+     *
+     * @param options of the computation
+     * @return legalMoveFuture which should be used to compute all legal moves
+     */
+    LegalMovesFuture allLegalMovesFuture(final LegalMovesOptions options);
+
+    /**
+     * This method works as {@link #allLegalMovesFuture()} but the computation is split into many tasks which are run
+     * in parallel on the given pool. Idle threads of the pool steal parts of the search from busy ones, which pays off
+     * for positions with thousands of moves. Moves are found in a different order than by {@link #allLegalMovesFuture()}.
+     *
+     * @param pool on which the computation is run after {@link LegalMovesFuture#start(java.time.Duration)} is called
+     * @return legalMoveFuture which should be used to compute all legal moves
+     */
+    LegalMovesFuture parallelLegalMovesFuture(final ForkJoinPool pool);
+
+    /**
+     * This method is a blocking and single-threaded version of {@link #allLegalMovesFuture()}.
+     * This method finds all legal moves on the calling thread and passes each of them to the given action as soon as it
+     * is found. Moves are visited in the same order as they are returned by {@link #allLegalMoves()}. This method is
+     * designed for search algorithms which look for moves in every visited position.
+     *
+     * @param action to perform for every legal move
+     * @see MutableBoard#forEachLegalMove(Consumer)
+     */
+    void forEachLegalMove(final Consumer<? super Move> action);
+
+    /**
+     * This method works as {@link #forEachLegalMove(Consumer)} but stops the search as soon as the given action returns
+     * false.
+     *
+     * @param action to perform for every legal move, returns false when the search should be stopped
+     * @return true if all legal moves have been visited, false if the search has been stopped by the action
+     */
+    boolean forEachLegalMoveWhile(final Predicate<? super Move> action);
+
+    /**
+     * This method finds all legal moves grouped by the position they lead to. Moves which draw the same edges in a
+     * different order and end at the same point lead to the same position. Only one move is returned for every such
+     * position, together with the number of legal moves leading to it. Positions reached in the middle of the move by
+     * different orders of directions are explored only once.
+     *
+     * @return one {@link DistinctMove} for every position which can be reached by a legal move
+     */
+    List<DistinctMove> allDistinctLegalMoves();
+
+    /**
+     * This method counts legal moves of the current player without creating them.
+     *
+     * @return number of legal moves, the same as the number of moves returned by {@link #allLegalMoves()}
+     * @see MutableBoard#countLegalMoves()
+     */
+    long countLegalMoves();
+
+    /**
+     * This method counts positions reached by all sequences of the given number of legal moves. No {@link Move} or
+     * {@link Board} is created during counting.
+     *
+     * @param depth number of moves, 0 counts only the current position
+     * @return number of reached positions
+     * @throws IllegalArgumentException when depth is negative
+     * @see MutableBoard#perft(int)
+     */
+    long perft(final int depth);
+
+    /**
+     * This method searches for the move which places the ball in the goal of the opponent of the current player. The
+     * search stops at the first such move, so it is much cheaper than finding all legal moves when such move exists.
+     *
+     * @return the winning move or {@link Optional#empty()} when there is no such move or the game is already over
+     * @see MutableBoard#findWinningMove()
+     */
+    Optional<Move> findWinningMove();
+
+    /**
+     * This method checks whether the current player loses the game with every legal move, by placing the ball in the
+     * own goal or in the point without any available direction. The search stops at the first move which does not
+     * lose.
+     *
+     * @return true if every legal move loses the game, false when at least one does not or the game is already over
+     * @see MutableBoard#isEveryMoveLosing()
+     */
+    boolean isEveryMoveLosing();
+
     /**
      * @return all Moves made by each {@link Player}
      */
@@ -153,6 +259,19 @@ public interface Board<T> extends Transformation {
      */
     Optional<T> takeTheWinner();
 
+    /**
+     * This method returns the 64-bit key of the current position. The key is computed from the drawn moves, the
+     * position of the ball, the player to move and whether a 'small' move is in progress. The order in which moves
+     * have been drawn does not affect the key. Two boards with the same position have the same key, different
+     * positions have different keys with a very high probability.
+     * <p>
+     * The key is updated incrementally by every executed move and undo, so calling this method is cheap. The key of
+     * the given position is stable between JVMs and library versions that use the same major version.
+     *
+     * @return key of the current position
+     */
+    long positionKey();
+
     /**
      * This method is used to obtain a reference to an object whose is able to provide extensive details about player.
      * {@code PlayerProvider} is able to tell the current player which is able to move as well as the first and second
@@ -28,6 +28,18 @@ public class Boards {
         return new ImmutableBoard<>(new PlayerProvider<>(Player.FIRST, Player.SECOND), logger);
     }
 
+    /**
+     * This method will create an immutable {@link Board} object without logging capabilities which shares legal moves
+     * of positions through the given cache. Boards created from the returned board by executing moves use the same
+     * cache.
+     *
+     * @param legalMovesCache cache of legal moves
+     * @return board object
+     */
+    public static Board<Player> immutableBoard(final LegalMovesCache legalMovesCache) {
+        return new ImmutableBoard<>(new PlayerProvider<>(Player.FIRST, Player.SECOND), new NoOpLogger(), legalMovesCache);
+    }
+
     /**
      * This method will create an immutable {@link Board} object parametrized by player object.
      *
@@ -59,4 +71,91 @@ public class Boards {
     public static <T> Board<T> immutableBoardWithCustomPlayer(final T first, final T second, final Logger logger) {
         return new ImmutableBoard<>(new PlayerProvider<>(first, second), logger);
     }
+
+    /**
+     * This method will create an immutable {@link Board} object parametrized by player object, which shares legal
+     * moves of positions through the given cache.
+     *
+     * @param first           player
+     * @param second          player
+     * @param legalMovesCache cache of legal moves
+     * @param <T>             type of the players
+     * @return board object
+     * @see #immutableBoard(LegalMovesCache)
+     */
+    public static <T> Board<T> immutableBoardWithCustomPlayer(final T first,
+                                                              final T second,
+                                                              final LegalMovesCache legalMovesCache) {
+        return new ImmutableBoard<>(new PlayerProvider<>(first, second), new NoOpLogger(), legalMovesCache);
+    }
+
+    /**
+     * This method will create an immutable {@link Board} object without logging capabilities. The returned board keeps
+     * its state in a packed form, which makes every executed move much cheaper in terms of memory than the board
+     * returned from {@link #immutableBoard()}. Both boards behave in the same way.
+     *
+     * @return board object
+     */
+    public static Board<Player> bitBoard() {
+        return bitBoard(new NoOpLogger());
+    }
+
+    /**
+     * This method will create an immutable {@link Board} object, with packed state, with logging capabilities.
+     *
+     * @param logger logger to use
+     * @return board object
+     * @see #bitBoard()
+     */
+    public static Board<Player> bitBoard(Logger logger) {
+        return new BitBoard<>(new PlayerProvider<>(Player.FIRST, Player.SECOND), logger);
+    }
+
+    /**
+     * This method will create an immutable {@link Board} object, with packed state, parametrized by player object.
+     *
+     * @param first  player
+     * @param second player
+     * @param <T>    type of the players
+     * @return board object
+     * @see #bitBoard()
+     */
+    public static <T> Board<T> bitBoardWithCustomPlayer(final T first, final T second) {
+        return bitBoardWithCustomPlayer(first, second, new NoOpLogger());
+    }
+
+    /**
+     * This method will create an immutable {@link Board} object, with packed state, parametrized by player object.
+     *
+     * @param first  player
+     * @param second player
+     * @param logger logger to use
+     * @param <T>    type of the players
+     * @return board object
+     * @see #bitBoard()
+     */
+    public static <T> Board<T> bitBoardWithCustomPlayer(final T first, final T second, final Logger logger) {
+        return new BitBoard<>(new PlayerProvider<>(first, second), logger);
+    }
+
+    /**
+     * This method will create a {@link MutableBoard} object which represents a board without any moves.
+     *
+     * @return mutable board object
+     */
+    public static MutableBoard<Player> mutableBoard() {
+        return mutableBoard(immutableBoard());
+    }
+
+    /**
+     * This method will convert given {@link Board} into the {@link MutableBoard} object. Directions made on the returned
+     * object do not affect given board.
+     *
+     * @param board to convert
+     * @param <T>   type of the players
+     * @return mutable board object with the same state as given board
+     */
+    public static <T> MutableBoard<T> mutableBoard(final Board<T> board) {
+        return new MutableBoard<>(board);
+    }
 }
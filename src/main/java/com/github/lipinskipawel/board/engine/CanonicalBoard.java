@@ -0,0 +1,57 @@
+package com.github.lipinskipawel.board.engine;
+
+import java.util.Objects;
+
+/**
+ * This class is an API.
+ * This class holds the canonical form of the board together with the {@link Symmetry} which has been used to obtain
+ * it. Moves found for the canonical board can be mapped back to the original board by {@code symmetry().apply(move)},
+ * because every symmetry is its own inverse.
+ *
+ * @param <T> type of the player
+ * @see Symmetry#canonical(Board)
+ */
+public final class CanonicalBoard<T> {
+    private final Board<T> board;
+    private final Symmetry symmetry;
+
+    CanonicalBoard(final Board<T> board, final Symmetry symmetry) {
+        this.board = board;
+        this.symmetry = symmetry;
+    }
+
+    /**
+     * @return canonical board
+     */
+    public Board<T> board() {
+        return this.board;
+    }
+
+    /**
+     * @return symmetry which transforms the original board into the canonical board and back
+     */
+    public Symmetry symmetry() {
+        return this.symmetry;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CanonicalBoard<?> that = (CanonicalBoard<?>) o;
+        return Objects.equals(board, that.board) && symmetry == that.symmetry;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(board, symmetry);
+    }
+
+    @Override
+    public String toString() {
+        return "CanonicalBoard{" +
+            "board=" + board +
+            ", symmetry=" + symmetry +
+            '}';
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.lipinskipawel.board.engine;
+
+import java.util.Objects;
+
+/**
+ * This class is an API.
+ * This class represents all legal moves which lead to the same position. Moves which draw the same edges in a
+ * different order and leave the ball at the same point end in the same position, so search algorithms need to visit
+ * only one of them.
+ *
+ * @see Board#allDistinctLegalMoves()
+ */
+public final class DistinctMove {
+    private final Move move;
+    private final long count;
+    private final long positionKey;
+
+    DistinctMove(final Move move, final long count, final long positionKey) {
+        this.move = move;
+        this.count = count;
+        this.positionKey = positionKey;
+    }
+
+    /**
+     * @return one of the moves which lead to the position, the same for every call
+     */
+    public Move move() {
+        return this.move;
+    }
+
+    /**
+     * @return number of legal moves which lead to the position, at least 1
+     */
+    public long count() {
+        return this.count;
+    }
+
+    /**
+     * @return {@link Board#positionKey()} of the position after the move
+     */
+    public long positionKey() {
+        return this.positionKey;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DistinctMove that = (DistinctMove) o;
+        return count == that.count && positionKey == that.positionKey && Objects.equals(move, that.move);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(move, count, positionKey);
+    }
+
+    @Override
+    public String toString() {
+        return "DistinctMove{" +
+            "move=" + move +
+            ", count=" + count +
+            ", positionKey=" + positionKey +
+            '}';
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.lipinskipawel.board.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class finds legal moves grouped by the position they lead to.
+ * <p>
+ * Every direction of the move draws a new edge, so all positions reached after the same number of directions form a
+ * layer. The search goes layer by layer and merges positions with the same {@link Board#positionKey()} within the
+ * layer. Directions which lead from the merged position are explored only once, no matter by how many orders of
+ * directions it has been reached. The number of orders is summed, which gives the number of legal moves leading to
+ * every final position.
+ */
+final class DistinctMoves {
+
+    private DistinctMoves() {
+    }
+
+    static List<DistinctMove> of(final Board<?> board) {
+        final var finished = new LinkedHashMap<Long, State>();
+        var layer = new LinkedHashMap<Long, State>();
+        layer.put(board.positionKey(), new State(board, null, null, 1));
+
+        while (!layer.isEmpty()) {
+            final var nextLayer = new LinkedHashMap<Long, State>();
+            for (var state : layer.values()) {
+                for (var direction : state.board.getBallAPI().getAllowedDirection()) {
+                    final var afterMove = state.board.executeMove(direction);
+                    final var reached = isItEnd(afterMove.getBallAPI()) ? finished : nextLayer;
+                    merge(reached, new State(afterMove, direction, state, state.count));
+                }
+            }
+            layer = nextLayer;
+        }
+
+        final var result = new ArrayList<DistinctMove>(finished.size());
+        for (var entry : finished.entrySet()) {
+            final var state = entry.getValue();
+            result.add(new DistinctMove(state.toMove(), state.count, entry.getKey()));
+        }
+        return result;
+    }
+
+    private static void merge(final Map<Long, State> states, final State state) {
+        final var key = state.board.positionKey();
+        final var existing = states.get(key);
+        if (existing == null) {
+            states.put(key, state);
+        } else {
+            existing.count += state.count;
+        }
+    }
+
+    private static boolean isItEnd(final Point ball) {
+        final var allowed = ball.countAllowedDirections();
+        return allowed == 7 || allowed == 0;
+    }
+
+    /**
+     * Position reached during the search. The first order of directions which has reached it is kept by the chain of
+     * previous states.
+     */
+    private static final class State {
+        private final Board<?> board;
+        private final Direction direction;
+        private final State previous;
+        private long count;
+
+        State(final Board<?> board, final Direction direction, final State previous, final long count) {
+            this.board = board;
+            this.direction = direction;
+            this.previous = previous;
+            this.count = count;
+        }
+
+        Move toMove() {
+            final var directions = new ArrayList<Direction>();
+            for (var state = this; state.previous != null; state = state.previous) {
+                directions.add(state.direction);
+            }
+            Collections.reverse(directions);
+            return new Move(directions);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.github.lipinskipawel.board.engine;
+
+import static com.github.lipinskipawel.board.engine.Direction.E;
+import static com.github.lipinskipawel.board.engine.Direction.N;
+import static com.github.lipinskipawel.board.engine.Direction.NE;
+import static com.github.lipinskipawel.board.engine.Direction.NW;
+import static com.github.lipinskipawel.board.engine.Direction.S;
+import static com.github.lipinskipawel.board.engine.Direction.SE;
+import static com.github.lipinskipawel.board.engine.Direction.SW;
+import static com.github.lipinskipawel.board.engine.Direction.W;
+
+/**
+ * This class describes the geometry of the pitch. All information is computed once when this class is loaded, so
+ * every method is a single array lookup.
+ * <p>
+ * The pitch is a grid of 9 columns and 13 rows. Point {@code row * 9 + column} lies in the given row and column. Row
+ * {@code 0} and row {@code 12} contain goals in columns from 3 to 5, other points of these rows are outside of the
+ * pitch. The field is surrounded by the border lines on rows 1 and 11 and on columns 0 and 8. The only gaps in these
+ * lines are goal mouths.
+ * <p>
+ * Directions of every point are indexed by {@link #bit(Direction)}. The same order is used by
+ * {@link Point#getAllDirections()} and by every packed representation of points.
+ */
+final class Geometry {
+    static final int COLUMNS = 9;
+    static final int ROWS = 13;
+    static final int NUMBER_OF_POINTS = COLUMNS * ROWS;
+    static final int STARTING_BALL_POSITION = NUMBER_OF_POINTS / 2;
+    static final Direction[] DIRECTIONS = {N, NE, E, SE, S, SW, W, NW};
+    static final int NO_NEIGHBOUR = -1;
+    private static final int OUTSIDE = 1;
+    private static final int TOP_GOAL = 1 << 1;
+    private static final int BOTTOM_GOAL = 1 << 2;
+    private static final int CORNER = 1 << 3;
+    private static final int BORDER = 1 << 4;
+    private static final int[] NEIGHBOURS = computeNeighbours();
+    private static final byte[] CLASSIFICATION = computeClassification();
+    private static final byte[] INITIAL_MASKS = computeInitialMasks();
+
+    private Geometry() {
+    }
+
+    /**
+     * @param direction to convert
+     * @return index of the given direction, from 0 to 7
+     */
+    static int bit(final Direction direction) {
+        return (direction.ordinal() + 4) & 7;
+    }
+
+    /**
+     * @param position  of the point
+     * @param direction to go from the point
+     * @return position of the neighbour or {@link #NO_NEIGHBOUR} when it does not exist on the grid
+     */
+    static int neighbour(final int position, final Direction direction) {
+        return NEIGHBOURS[position * 8 + bit(direction)];
+    }
+
+    static boolean isGoal(final int position) {
+        return (CLASSIFICATION[position] & (TOP_GOAL | BOTTOM_GOAL)) != 0;
+    }
+
+    /**
+     * @param position of the point
+     * @return true when the point is the goal of the {@link Player#SECOND}, ball in it means the win of the first player
+     */
+    static boolean isTopGoal(final int position) {
+        return (CLASSIFICATION[position] & TOP_GOAL) != 0;
+    }
+
+    static boolean isBottomGoal(final int position) {
+        return (CLASSIFICATION[position] & BOTTOM_GOAL) != 0;
+    }
+
+    static boolean isCorner(final int position) {
+        return (CLASSIFICATION[position] & CORNER) != 0;
+    }
+
+    static boolean isBorder(final int position) {
+        return (CLASSIFICATION[position] & BORDER) != 0;
+    }
+
+    static boolean isOutside(final int position) {
+        return (CLASSIFICATION[position] & OUTSIDE) != 0;
+    }
+
+    /**
+     * @param position of the point
+     * @return byte with {@link #bit(Direction)} bits set for directions available on the board without any moves
+     */
+    static int initialMask(final int position) {
+        return INITIAL_MASKS[position] & 0xFF;
+    }
+
+    private static int[] computeNeighbours() {
+        final var result = new int[NUMBER_OF_POINTS * 8];
+        for (int position = 0; position < NUMBER_OF_POINTS; position++) {
+            for (final var direction : DIRECTIONS) {
+                final var row = row(position) + rowChange(direction);
+                final var column = column(position) + columnChange(direction);
+                final var onGrid = row >= 0 && row < ROWS && column >= 0 && column < COLUMNS;
+                result[position * 8 + bit(direction)] = onGrid ? row * COLUMNS + column : NO_NEIGHBOUR;
+            }
+        }
+        return result;
+    }
+
+    private static byte[] computeClassification() {
+        final var result = new byte[NUMBER_OF_POINTS];
+        for (int position = 0; position < NUMBER_OF_POINTS; position++) {
+            final var row = row(position);
+            final var column = column(position);
+            final var goalColumn = column >= 3 && column <= 5;
+            final var borderRow = row == 1 || row == ROWS - 2;
+            final var borderColumn = column == 0 || column == COLUMNS - 1;
+            var classification = 0;
+            if (row == 0 || row == ROWS - 1) {
+                classification |= !goalColumn ? OUTSIDE : row == 0 ? TOP_GOAL : BOTTOM_GOAL;
+            } else if (borderRow && borderColumn) {
+                classification |= CORNER | BORDER;
+            } else if (borderColumn || (borderRow && column != COLUMNS / 2)) {
+                classification |= BORDER;
+            }
+            result[position] = (byte) classification;
+        }
+        return result;
+    }
+
+    /**
+     * Direction is available at the beginning of the game when the ball can go from the point on the field which is not
+     * a corner to the point which is not outside, and the line between these points neither is a part of the border
+     * line nor crosses the goal post.
+     */
+    private static byte[] computeInitialMasks() {
+        final var result = new byte[NUMBER_OF_POINTS];
+        for (int position = 0; position < NUMBER_OF_POINTS; position++) {
+            if (isOutside(position) || isGoal(position) || isCorner(position)) {
+                continue;
+            }
+            var mask = 0;
+            for (final var direction : DIRECTIONS) {
+                final var neighbour = neighbour(position, direction);
+                if (neighbour != NO_NEIGHBOUR && !isOutside(neighbour) && !isBlockedLine(position, neighbour)) {
+                    mask |= 1 << bit(direction);
+                }
+            }
+            result[position] = (byte) mask;
+        }
+        return result;
+    }
+
+    private static boolean isBlockedLine(final int first, final int second) {
+        if (isGoal(second) && (column(first) < 3 || column(first) > 5)) {
+            return true;
+        }
+        final var top = Math.min(row(first), row(second));
+        final var left = Math.min(column(first), column(second));
+        if (row(first) == row(second)) {
+            final var goalMouth = left == 3 || left == 4;
+            return (top == 1 || top == ROWS - 2) ? !goalMouth : (top == 0 || top == ROWS - 1) && goalMouth;
+        }
+        if (column(first) == column(second)) {
+            final var goalPost = (left == 3 || left == 5) && (top == 0 || top == ROWS - 2);
+            return left == 0 || left == COLUMNS - 1 || goalPost;
+        }
+        return false;
+    }
+
+    private static int row(final int position) {
+        return position / COLUMNS;
+    }
+
+    private static int column(final int position) {
+        return position % COLUMNS;
+    }
+
+    /**
+     * @param direction to go
+     * @return -1 when the direction goes to the top goal, 1 when it goes to the bottom goal, otherwise 0
+     */
+    static int rowChange(final Direction direction) {
+        return Math.floorDiv(direction.changeToInt() + 1, COLUMNS);
+    }
+
+    private static int columnChange(final Direction direction) {
+        return direction.changeToInt() - rowChange(direction) * COLUMNS;
+    }
+}
@@ -4,37 +4,49 @@ import com.github.lipinskipawel.board.engine.exception.ChangePlayerIsNotAllowed;
 import com.github.lipinskipawel.board.internal.NoOpLogger;
 import com.github.lipinskipawel.board.spi.Logger;
 
-import java.time.Duration;
+import java.nio.FloatBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 final class ImmutableBoard<T> implements Board<T> {
     private final Logger logger;
     private final LogicalPoints points;
     private final PlayerProvider<T> playerProvider;
     private final MoveHistory moveLog;
+    private final LegalMovesCache legalMovesCache;
 
     ImmutableBoard(PlayerProvider<T> provider) {
         this(provider, new NoOpLogger());
     }
 
     ImmutableBoard(final PlayerProvider<T> provider, Logger logger) {
+        this(provider, logger, LegalMovesCache.disabled());
+    }
+
+    ImmutableBoard(final PlayerProvider<T> provider, final Logger logger, final LegalMovesCache legalMovesCache) {
         this.points = new LogicalPoints();
         this.playerProvider = provider.copy();
         this.moveLog = new MoveHistory();
         this.logger = logger;
+        this.legalMovesCache = legalMovesCache;
     }
 
     private ImmutableBoard(final LogicalPoints points,
                            final PlayerProvider<T> provider,
                            final MoveHistory moveHistory,
-                           final Logger logger) {
+                           final Logger logger,
+                           final LegalMovesCache legalMovesCache) {
         this.points = points;
         this.playerProvider = provider;
         this.moveLog = moveHistory;
         this.logger = logger;
+        this.legalMovesCache = legalMovesCache;
     }
 
     @Override
@@ -62,7 +74,7 @@ final class ImmutableBoard<T> implements Board<T> {
             final var providedPlayer = computePlayerProvider(player);
 
             logger.debug("Move has been made: " + destination);
-            return new ImmutableBoard<>(logicalPoints, providedPlayer, moveLogg, logger);
+            return new ImmutableBoard<>(logicalPoints, providedPlayer, moveLogg, logger, legalMovesCache);
         } else {
             logger.debug("Move has NOT been made: " + destination);
             return this;
@@ -78,9 +90,9 @@ final class ImmutableBoard<T> implements Board<T> {
 
     @Override
     public Board<T> executeMove(final Move move) {
-        var afterMove = new ImmutableBoard<>(this.points, this.playerProvider, this.moveLog, this.logger);
-        for (var dir : move.getMove()) {
-            afterMove = afterMove.executeMove(dir);
+        var afterMove = new ImmutableBoard<>(this.points, this.playerProvider, this.moveLog, this.logger, this.legalMovesCache);
+        for (int i = 0; i < move.length(); i++) {
+            afterMove = afterMove.executeMove(move.directionAt(i));
         }
         return afterMove;
     }
@@ -101,7 +113,7 @@ final class ImmutableBoard<T> implements Board<T> {
         final var isFirst = moveLogg.currentPlayer();
         final var providedPlayer = computePlayer(isFirst);
 
-        final var newImmutableBoard = new ImmutableBoard<T>(logicalPoints, providedPlayer, moveLogg, logger);
+        final var newImmutableBoard = new ImmutableBoard<T>(logicalPoints, providedPlayer, moveLogg, logger, legalMovesCache);
         if (this.equals(newImmutableBoard)) {
             logger.debug("undo returned THIS reference.");
         }
@@ -123,7 +135,7 @@ final class ImmutableBoard<T> implements Board<T> {
 
     @Override
     public Board<T> undoPlayerMove() {
-        final var another = new ImmutableBoard<>(this.points, this.playerProvider.copy(), this.moveLog, this.logger).undo();
+        final var another = new ImmutableBoard<>(this.points, this.playerProvider.copy(), this.moveLog, this.logger, this.legalMovesCache).undo();
         if (this.playerProvider.current().equals(another.playerProvider.current())) {
             logger.debug("undoPlayerMove has been made.");
             return another;
@@ -136,20 +148,72 @@ final class ImmutableBoard<T> implements Board<T> {
     @Override
     public List<Move> allLegalMoves() {
         logger.debug("allLegalMoves executed.");
-        final var legalMovesFuture = new LegalMovesFuture(this);
-        legalMovesFuture.start(Duration.ofSeconds(Integer.MAX_VALUE));
-        final List<Move> result = new ArrayList<>();
-        while (legalMovesFuture.isRunning()) {
-            result.addAll(legalMovesFuture.partialResult());
-        }
-        result.addAll(legalMovesFuture.partialResult());
+        final List<Move> result = this.legalMovesCache.isEnabled()
+            ? new ArrayList<>(this.legalMovesCache.computeIfAbsent(positionKey(), this::findLegalMoves))
+            : findLegalMoves();
         logger.debug("allLegalMoves finds: " + result.size() + " moves");
         return result;
     }
 
+    private List<Move> findLegalMoves() {
+        final List<Move> result = new ArrayList<>();
+        forEachLegalMove(result::add);
+        return result;
+    }
+
     @Override
     public LegalMovesFuture allLegalMovesFuture() {
-        return new LegalMovesFuture(this);
+        return new LegalMovesFuture(this, this.legalMovesCache);
+    }
+
+    @Override
+    public LegalMovesFuture allLegalMovesFuture(final Executor executor) {
+        return new LegalMovesFuture(this, executor, this.legalMovesCache);
+    }
+
+    @Override
+    public LegalMovesFuture allLegalMovesFuture(final LegalMovesOptions options) {
+        return new LegalMovesFuture(this, options);
+    }
+
+    @Override
+    public LegalMovesFuture parallelLegalMovesFuture(final ForkJoinPool pool) {
+        return LegalMovesFuture.parallel(this, pool);
+    }
+
+    @Override
+    public void forEachLegalMove(final Consumer<? super Move> action) {
+        new MutableBoard<>(this).forEachLegalMove(action);
+    }
+
+    @Override
+    public boolean forEachLegalMoveWhile(final Predicate<? super Move> action) {
+        return new MutableBoard<>(this).forEachLegalMoveWhile(action);
+    }
+
+    @Override
+    public List<DistinctMove> allDistinctLegalMoves() {
+        return DistinctMoves.of(this);
+    }
+
+    @Override
+    public long countLegalMoves() {
+        return new MutableBoard<>(this).countLegalMoves();
+    }
+
+    @Override
+    public long perft(final int depth) {
+        return new MutableBoard<>(this).perft(depth);
+    }
+
+    @Override
+    public Optional<Move> findWinningMove() {
+        return new MutableBoard<>(this).findWinningMove();
+    }
+
+    @Override
+    public boolean isEveryMoveLosing() {
+        return new MutableBoard<>(this).isEveryMoveLosing();
     }
 
     @Override
@@ -159,19 +223,19 @@ final class ImmutableBoard<T> implements Board<T> {
 
     @Override
     public boolean isGoal() {
-        return this.points.getBall().isOnTop() || this.points.getBall().isOnBottom();
+        return Geometry.isGoal(this.points.getBallPosition());
     }
 
     @Override
     public boolean isGameOver() {
-        return isGoal() || points.getBall().getUnavailableDirection().size() == 8;
+        return isGoal() || points.getBall().countAllowedDirections() == 0;
     }
 
     @Override
     public Optional<T> takeTheWinner() {
         if (!isGameOver())
             return Optional.empty();
-        if (isGoal() && getBallPosition() < 20) {
+        if (Geometry.isTopGoal(this.points.getBallPosition())) {
             return Optional.of(this.playerProvider.first());
         }
         if (!isGoal() && isGameOver()) {
@@ -196,7 +260,7 @@ final class ImmutableBoard<T> implements Board<T> {
             ? this.playerProvider
             : this.playerProvider.copy().swap();
         logger.debug("nextPlayerToMove returns board with player to move " + providedPlayer.current());
-        return new ImmutableBoard<>(this.points, providedPlayer, this.moveLog, logger);
+        return new ImmutableBoard<>(this.points, providedPlayer, this.moveLog, logger, legalMovesCache);
     }
 
     @Override
@@ -209,6 +273,18 @@ final class ImmutableBoard<T> implements Board<T> {
         return this.playerProvider.copy();
     }
 
+    @Override
+    public long positionKey() {
+        var key = this.points.positionKey();
+        if (!this.playerProvider.current().equals(this.playerProvider.first())) {
+            key ^= ZobristKeys.SECOND_PLAYER_TO_MOVE;
+        }
+        if (this.moveLog.isSmallMoveHasBeenMade()) {
+            key ^= ZobristKeys.SMALL_MOVE;
+        }
+        return key;
+    }
+
     @Override
     public int[] transform() {
         return this.points.transform();
@@ -219,6 +295,36 @@ final class ImmutableBoard<T> implements Board<T> {
         return this.points.nonBinaryTransformation();
     }
 
+    @Override
+    public int transform(final int[] destination, final int offset) {
+        return this.points.transform(destination, offset);
+    }
+
+    @Override
+    public int transform(final float[] destination, final int offset) {
+        return this.points.transform(destination, offset);
+    }
+
+    @Override
+    public int transform(final double[] destination, final int offset) {
+        return this.points.transform(destination, offset);
+    }
+
+    @Override
+    public int transform(final FloatBuffer destination, final int index) {
+        return this.points.transform(destination, index);
+    }
+
+    @Override
+    public int nonBinaryTransformation(final double[] destination, final int offset) {
+        return this.points.nonBinaryTransformation(destination, offset);
+    }
+
+    @Override
+    public int nonBinaryTransformation(final float[] destination, final int offset) {
+        return this.points.nonBinaryTransformation(destination, offset);
+    }
+
     private T computePlayerToMove(final LogicalPoints logicalPoints) {
         var player = this.playerProvider.current();
 
@@ -229,6 +335,20 @@ final class ImmutableBoard<T> implements Board<T> {
         return player;
     }
 
+    /**
+     * @return copy of the packed points of this board
+     */
+    long[] packedPoints() {
+        return this.points.packedPoints();
+    }
+
+    /**
+     * @return key of drawn moves and the ball position, see {@link ZobristKeys}
+     */
+    long pointsKey() {
+        return this.points.positionKey();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -241,7 +361,7 @@ final class ImmutableBoard<T> implements Board<T> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(points, playerProvider, moveLog);
+        return Long.hashCode(positionKey());
     }
 
     @Override
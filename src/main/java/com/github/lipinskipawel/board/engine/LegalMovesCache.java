@@ -0,0 +1,220 @@
+package com.github.lipinskipawel.board.engine;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * This class is an API.
+ * This class is a bounded cache of legal moves, shared between boards created by
+ * {@link Boards#immutableBoard(LegalMovesCache)} and {@link Boards#immutableBoardWithCustomPlayer(Object, Object,
+ * LegalMovesCache)}. Legal moves of the position are found once and then {@link Board#allLegalMoves()} and
+ * {@link Board#allLegalMovesFuture()} of every board with the same {@link Board#positionKey()} reuse them. Instances
+ * are created by the builder returned from {@link #aLegalMovesCache()}.
+ * <p>
+ * The cache keeps at most the given number of positions or the given total number of moves, whichever is reached
+ * first. The least recently used position is evicted when the limit is exceeded. Positions are identified by their
+ * 64-bit {@link Board#positionKey()} only.
+ * <p>
+ * This class is thread-safe. The lock of the cache is held only to look up, store or evict the entry, legal moves are
+ * never found while holding it. Two threads which miss the same position at the same time both find its moves.
+ */
+public final class LegalMovesCache {
+    private static final LegalMovesCache DISABLED = new LegalMovesCache(0, 0);
+    private final int maximumSize;
+    private final long maximumWeight;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    // @GuardedBy("entries")
+    private final LinkedHashMap<Long, List<Move>> entries;
+
+    // @GuardedBy("entries")
+    private long weight;
+
+    private LegalMovesCache(final int maximumSize, final long maximumWeight) {
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.weight = 0;
+    }
+
+    public static Builder aLegalMovesCache() {
+        return new Builder();
+    }
+
+    /**
+     * @return cache which never keeps any moves, it is used by boards created without the cache
+     */
+    static LegalMovesCache disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * @return number of lookups which have found moves of the position in this cache
+     */
+    public long hitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * @return number of lookups after which moves of the position had to be found
+     */
+    public long missCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * @return number of positions removed from this cache to keep it within its limits
+     */
+    public long evictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * @return number of positions kept in this cache
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    /**
+     * @return total number of moves kept in this cache
+     */
+    public long weight() {
+        synchronized (this.entries) {
+            return this.weight;
+        }
+    }
+
+    /**
+     * Removes all positions from this cache. Statistics are not changed.
+     */
+    public void clear() {
+        synchronized (this.entries) {
+            this.entries.clear();
+            this.weight = 0;
+        }
+    }
+
+    boolean isEnabled() {
+        return this != DISABLED;
+    }
+
+    /**
+     * @param positionKey of the position
+     * @return unmodifiable list of legal moves or null when they are not kept in this cache
+     */
+    List<Move> get(final long positionKey) {
+        final List<Move> moves;
+        synchronized (this.entries) {
+            moves = this.entries.get(positionKey);
+        }
+        if (moves == null) {
+            this.misses.increment();
+        } else {
+            this.hits.increment();
+        }
+        return moves;
+    }
+
+    /**
+     * @param positionKey of the position
+     * @param legalMoves  finds legal moves of the position, it is called only when they are not kept in this cache
+     * @return unmodifiable list of legal moves
+     */
+    List<Move> computeIfAbsent(final long positionKey, final Supplier<List<Move>> legalMoves) {
+        final var cached = get(positionKey);
+        if (cached != null) {
+            return cached;
+        }
+        final var moves = Collections.unmodifiableList(legalMoves.get());
+        put(positionKey, moves);
+        return moves;
+    }
+
+    /**
+     * Moves of the position which alone exceed the maximum weight are not kept.
+     *
+     * @param positionKey of the position
+     * @param moves       all legal moves of the position, the list must not be changed afterwards
+     */
+    void put(final long positionKey, final List<Move> moves) {
+        if (!isEnabled() || moves.size() > this.maximumWeight) {
+            return;
+        }
+        synchronized (this.entries) {
+            final var previous = this.entries.put(positionKey, moves);
+            this.weight += moves.size() - (previous == null ? 0 : previous.size());
+            final var eldest = this.entries.values().iterator();
+            while (this.entries.size() > this.maximumSize || this.weight > this.maximumWeight) {
+                this.weight -= eldest.next().size();
+                eldest.remove();
+                this.evictions.increment();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LegalMovesCache{" +
+            "size=" + size() +
+            ", weight=" + weight() +
+            ", hits=" + hitCount() +
+            ", misses=" + missCount() +
+            ", evictions=" + evictionCount() +
+            '}';
+    }
+
+    public static final class Builder {
+        private int maximumSize;
+        private long maximumWeight;
+
+        private Builder() {
+            this.maximumSize = 10_000;
+            this.maximumWeight = Long.MAX_VALUE;
+        }
+
+        /**
+         * @param maximumSize maximum number of positions kept in the cache, must be positive. Default is 10 000
+         * @return this builder
+         * @throws IllegalArgumentException when maximumSize is not positive
+         */
+        public Builder withMaximumSize(final int maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("Maximum size must be positive, was: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Complicated positions have thousands of legal moves, so limiting the total number of moves bounds the memory
+         * used by the cache better than limiting the number of positions.
+         *
+         * @param maximumWeight maximum total number of moves kept in the cache, must be positive. It is not limited by
+         *                      default
+         * @return this builder
+         * @throws IllegalArgumentException when maximumWeight is not positive
+         */
+        public Builder withMaximumWeight(final long maximumWeight) {
+            if (maximumWeight < 1) {
+                throw new IllegalArgumentException("Maximum weight must be positive, was: " + maximumWeight);
+            }
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        public LegalMovesCache build() {
+            return new LegalMovesCache(this.maximumSize, this.maximumWeight);
+        }
+    }
+}
@@ -1,18 +1,36 @@
 package com.github.lipinskipawel.board.engine;
 
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Spliterators;
 import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
 
 /**
  * This class is an API.
@@ -31,47 +49,212 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * During the computation the implementation saves already found moves in its state. Clients can access already found
  * moves during the computation. See {@link #partialResult()} method.
  * <p>
+ * Instead of polling {@link #partialResult()} in a loop, clients can block until the next move is found by
+ * {@link #poll(Duration)} or consume all moves by {@link #stream()}. When the computation is started by
+ * {@link #start(Duration, int)} at most the given number of found moves is kept in memory. The computation pauses when
+ * this limit is reached and resumes when the client takes moves out.
+ * <p>
  * <h2>Cancellation Policy</h2>
- * There are three ways in which the computation will be stopped:
+ * There are four ways in which the computation will be stopped:
  * - completing the computation within given timeout
  * - running out of time due to exceeding given timeout
  * - canceling computation explicit by the caller ({@link #cancel()}
+ * - finding the maximum number of moves given by {@link LegalMovesOptions#maxMoves()}
+ *
+ * <h2>Options</h2>
+ * Futures created by {@link Board#allLegalMovesFuture(LegalMovesOptions)} can finish the computation after the given
+ * number of moves and can explore directions in the given priority order. See {@link LegalMovesOptions}.
+ *
+ * <h2>Cache</h2>
+ * Futures created by {@link Board#allLegalMovesFuture()} or {@link Board#allLegalMovesFuture(Executor)} of the board
+ * with the {@link LegalMovesCache} publish moves kept in the cache without searching for them. When the moves are not
+ * kept there, all moves found by the computation completed within the timeout are stored in the cache.
+ *
+ * <h2>Threads</h2>
+ * The computation runs on the {@link Executor} given to {@link Board#allLegalMovesFuture(Executor)}. Futures created
+ * by {@link Board#allLegalMovesFuture()} share a default pool of daemon threads, which are reused between
+ * computations and released when they are idle. The pool has one thread per available processor. When all of them are
+ * busy, started computations wait in the queue of the pool, and their timeout is counted only from the moment they
+ * start running. A computation which waits for the client to take moves out does not hold any thread of the pool, see
+ * {@link #start(Duration, int)}. Timeouts of all futures are handled by a single shared daemon thread. Neither of
+ * them prevents the JVM from exiting, so no shutdown hook is registered.
+ * <p>
+ * Futures created by {@link Board#parallelLegalMovesFuture(ForkJoinPool)} split the search into many tasks which are
+ * balanced between threads of the {@link ForkJoinPool} by work stealing. Moves are found in a different order then,
+ * but the same moves are found and {@link #partialResult()} and {@link #cancel()} work in the same way.
  *
  * <h2>Thread safety</h2>
  * This class is thread-safe. Any calls to its public API in concurrent way is understood as safe. Implementation does
  * not expose any lock for the client side locking.
  */
 public final class LegalMovesFuture {
+    private static final ExecutorService DEFAULT_EXECUTOR = defaultExecutor();
+    private static final ScheduledThreadPoolExecutor TIMEOUT_SCHEDULER = timeoutScheduler();
+    private static final long NO_DEADLINE = Long.MIN_VALUE;
+    private static final int RUNNING = 0;
+    private static final int CANCELLING = 1;
+    private static final int DONE = 2;
     private final Board<?> board;
 
     /**
      * This field holds results of the computation.
      */
-    private final BlockingQueue<Move> allMoves;
+    private final Queue<Move> allMoves;
+
+    /**
+     * Number of moves in {@link #allMoves} together with places reserved by producers which are storing their moves.
+     * It is compared with {@link #bufferCapacity} without walking the queue.
+     */
+    private final AtomicInteger bufferedMoves;
 
     private final AtomicBoolean isStarted;
 
+    /**
+     * This field holds {@link #RUNNING}, {@link #CANCELLING} or {@link #DONE}. The search checks it by a single
+     * volatile read. The computation is {@link #CANCELLING} from the moment of the cancellation until all moves which
+     * were being published at that moment are stored, then it is {@link #DONE}.
+     */
+    private final AtomicInteger state;
+
+    /**
+     * Number of threads which have checked that the computation is {@link #RUNNING} and have not stored their move yet.
+     * Cancellation waits until it drops to zero, so no move is stored after the computation is {@link #DONE}.
+     */
+    private final AtomicInteger publishing;
+
+    /**
+     * Producers wait on this lock while the buffer is full and consumers wait on it for the next move. It is taken by
+     * other threads only to notify waiting ones, see {@link #waiting}.
+     */
     private final Object lock;
 
-    private final ExecutorService pool;
+    /**
+     * Number of threads waiting on the {@link #lock}. Every thread increments it before it checks the condition it
+     * waits for and every change of the state reads it after the change, so no notification is lost.
+     */
+    private final AtomicInteger waiting;
+
+    private final Executor executor;
 
     /**
-     * This field controls whether the computation should be canceled.
-     *
-     * @implNote This variable can not be volatile since it will introduce race condition between checking cancellation
-     * and storing move onto the {@link #allMoves} variable.
+     * This field controls whether the search is split into {@link ParallelSearch} tasks.
+     */
+    private final boolean parallel;
+
+    private final LegalMovesOptions options;
+
+    /**
+     * All directions in the order in which they are explored, see {@link LegalMovesOptions}.
      */
+    private final Direction[] directions;
+
+    /**
+     * Number of moves found so far, it is counted only when {@link LegalMovesOptions#maxMoves()} is limited.
+     */
+    private final AtomicLong foundMoves;
+
+    /**
+     * Moves of the position are taken from this cache when they are kept there. Otherwise, all moves found by the
+     * completed computation are stored in it. Only the sequential computation with default options uses the cache.
+     */
+    private final LegalMovesCache cache;
+
+    /**
+     * Moves found so far, collected for the {@link #cache}. It is null when the cache is disabled. It is accessed only
+     * by the single thread of the sequential computation.
+     */
+    private final List<Move> cachedMoves;
+
+    /**
+     * Levels of the sequential search which are not explored yet. The sequential search is run by a single task at a
+     * time, see {@link #isSuspended}.
+     */
+    private final Stack<Level> levels;
+
+    /**
+     * Moves found by the sequential search which are not stored in {@link #allMoves} yet, because the buffer is full.
+     */
+    private final Queue<Move> pendingMoves;
+
+    /**
+     * This field is true when the sequential search has returned its thread to the executor, because the buffer is
+     * full. The client which takes moves out submits the search to the executor again, so no thread of the executor
+     * waits for the client.
+     */
+    private final AtomicBoolean isSuspended;
+
+    /**
+     * This field is true when the moves are not kept in the {@link #cache} and the sequential search has to find them.
+     */
+    private boolean isCacheMiss;
+
     // @GuardedBy("lock")
-    private boolean isCancel;
+    private ScheduledFuture<?> timeout;
+
+    /**
+     * Timeout given to {@link #start(Duration, int)}, it is counted from the moment the computation starts running.
+     */
+    private volatile long timeoutMillis;
+
+    /**
+     * Maximum number of moves kept in {@link #allMoves}, the computation waits when it is reached.
+     */
+    private volatile int bufferCapacity;
 
     LegalMovesFuture(final Board<?> board) {
+        this(board, DEFAULT_EXECUTOR);
+    }
+
+    LegalMovesFuture(final Board<?> board, final Executor executor) {
+        this(board, executor, LegalMovesCache.disabled());
+    }
+
+    LegalMovesFuture(final Board<?> board, final LegalMovesCache cache) {
+        this(board, DEFAULT_EXECUTOR, cache);
+    }
+
+    LegalMovesFuture(final Board<?> board, final Executor executor, final LegalMovesCache cache) {
+        this(board, executor, LegalMovesOptions.defaultOptions(), false, cache);
+    }
+
+    LegalMovesFuture(final Board<?> board, final LegalMovesOptions options) {
+        this(board, DEFAULT_EXECUTOR, options, false, LegalMovesCache.disabled());
+    }
+
+    private LegalMovesFuture(final Board<?> board,
+                             final Executor executor,
+                             final LegalMovesOptions options,
+                             final boolean parallel,
+                             final LegalMovesCache cache) {
         this.board = board;
-        this.allMoves = new LinkedBlockingDeque<>();
+        this.allMoves = new ConcurrentLinkedQueue<>();
+        this.bufferedMoves = new AtomicInteger();
         this.isStarted = new AtomicBoolean(false);
-        this.isCancel = false;
+        this.state = new AtomicInteger(RUNNING);
+        this.publishing = new AtomicInteger();
         this.lock = new Object();
-        this.pool = Executors.newFixedThreadPool(2);
-        Runtime.getRuntime().addShutdownHook(new Thread(this::cancel));
+        this.waiting = new AtomicInteger();
+        this.executor = executor;
+        this.parallel = parallel;
+        this.options = options;
+        this.directions = options.directionsInOrder(board);
+        this.foundMoves = new AtomicLong();
+        this.cache = cache;
+        this.cachedMoves = cache.isEnabled() ? new ArrayList<>() : null;
+        this.levels = new Stack<>();
+        this.pendingMoves = new ArrayDeque<>();
+        this.isSuspended = new AtomicBoolean(false);
+        this.isCacheMiss = false;
+        this.bufferCapacity = Integer.MAX_VALUE;
+    }
+
+    /**
+     * @param board to find moves for
+     * @param pool  on which the search is split into many tasks
+     * @return future which searches for moves in parallel
+     */
+    static LegalMovesFuture parallel(final Board<?> board, final ForkJoinPool pool) {
+        return new LegalMovesFuture(board, pool, LegalMovesOptions.defaultOptions(), true, LegalMovesCache.disabled());
     }
 
     /**
@@ -79,24 +262,54 @@ public final class LegalMovesFuture {
      * <p>
      * This method is CPU bounded. Calling this method will start the task of finding all possible moves.
      * Calling this method multiple times will have no effect other than ensuring that the computation is already
-     * started. Calling this method is non-blocking, since it will start the computation is separate thread pool.
+     * started. Calling this method is non-blocking, since it will start the computation on the executor of this
+     * future.
      * Client can check the status of a job by {@link #isRunning()} method.
      * Client can access results by {@link #partialResult()} method.
      * Client can cancel computation in any time by {@link #cancel()} method.
+     * <p>
+     * The timeout is counted from the moment the computation starts running on the executor, so the time spent in
+     * the queue of a busy executor is not taken from the computation.
      *
      * @param timeout after which the task will be stopped
+     * @throws RejectedExecutionException when the executor of this future does not accept the computation, the
+     *                                    computation is cancelled then
      */
     public void start(final Duration timeout) {
+        start(timeout, Integer.MAX_VALUE);
+    }
+
+    /**
+     * This method works as {@link #start(Duration)} but keeps at most the given number of found moves in memory. When
+     * the limit is reached the computation waits until the client takes moves out by {@link #partialResult()},
+     * {@link #poll(Duration)} or {@link #stream()}. Waiting does not stop the timeout. The sequential computation does
+     * not hold any thread of the executor while it waits, it is submitted to the executor again when the client takes
+     * moves out. The parallel computation blocks its thread of the {@link ForkJoinPool} as a
+     * {@link ForkJoinPool.ManagedBlocker}, so the pool may start a spare thread meanwhile.
+     * <p>
+     * A computation which waits for the client lasts until the timeout. Clients which stop taking moves before the end,
+     * for example by a short-circuiting operation of the {@link #stream()}, should {@link #cancel()} it or close the
+     * stream.
+     *
+     * @param timeout        after which the task will be stopped
+     * @param bufferCapacity maximum number of found moves which are not taken out by the client yet
+     * @throws IllegalArgumentException   when bufferCapacity is less than 1
+     * @throws RejectedExecutionException when the executor of this future does not accept the computation, the
+     *                                    computation is cancelled then
+     */
+    public void start(final Duration timeout, final int bufferCapacity) {
+        if (bufferCapacity < 1) {
+            throw new IllegalArgumentException("Buffer capacity must be positive, was: " + bufferCapacity);
+        }
         if (this.isStarted.compareAndSet(false, true)) {
-            final Future<?> submit = this.pool.submit(this::startComputation);
-            this.pool.submit(() -> {
-                try {
-                    submit.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
-                } catch (InterruptedException | ExecutionException | TimeoutException ignored) {
-                } finally {
-                    this.cancel();
-                }
-            });
+            this.bufferCapacity = bufferCapacity;
+            this.timeoutMillis = timeout.toMillis();
+            try {
+                this.executor.execute(this::startComputation);
+            } catch (RejectedExecutionException e) {
+                this.cancel();
+                throw e;
+            }
         }
     }
 
@@ -126,98 +339,507 @@ public final class LegalMovesFuture {
      */
     public List<Move> partialResult() {
         final var moves = new ArrayList<Move>();
-        this.allMoves.drainTo(moves);
+        for (var move = this.allMoves.poll(); move != null; move = this.allMoves.poll()) {
+            moves.add(move);
+        }
+        if (!moves.isEmpty()) {
+            this.bufferedMoves.addAndGet(-moves.size());
+            notifyWaiting();
+            resumeSearch();
+        }
         return moves;
     }
 
+    /**
+     * This method takes the next found move, waiting up to the given timeout for it if necessary. The calling thread
+     * is blocked while waiting, it does not spin.
+     *
+     * @param timeout how long to wait for the next move
+     * @return the next move or {@link Optional#empty()} when the timeout has elapsed or the computation has been
+     * finished and all found moves have been taken already
+     * @throws InterruptedException when interrupted while waiting
+     */
+    public Optional<Move> poll(final Duration timeout) throws InterruptedException {
+        return Optional.ofNullable(take(System.nanoTime() + timeout.toNanos()));
+    }
+
+    /**
+     * This method returns a sequential stream of moves which are not taken out yet. The stream blocks while waiting for
+     * the next move and ends when the computation has been finished and all found moves have been consumed. Closing
+     * the stream cancels the computation. A short-circuiting operation, like {@code findFirst} or {@code limit}, does
+     * not close the stream, so the stream should be used in the try-with-resources statement or the computation
+     * should be cancelled afterwards. Otherwise, the computation started by {@link #start(Duration, int)} waits for the
+     * client until the timeout.
+     * <p>
+     * When the thread consuming the stream is interrupted the stream ends, the computation is cancelled and the
+     * interrupt status of the thread is set.
+     *
+     * @return stream of found moves
+     */
+    public Stream<Move> stream() {
+        final var moves = new Spliterators.AbstractSpliterator<Move>(Long.MAX_VALUE, ORDERED | NONNULL) {
+            @Override
+            public boolean tryAdvance(final Consumer<? super Move> action) {
+                try {
+                    final var move = take(NO_DEADLINE);
+                    if (move == null) {
+                        return false;
+                    }
+                    action.accept(move);
+                    return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancel();
+                    return false;
+                }
+            }
+        };
+        return StreamSupport.stream(moves, false).onClose(this::cancel);
+    }
+
     /**
      * This method cancels current computation of finding all possible moves. Cancelling already cancelled computation
      * has no effect.
      * Cancellation of computation does not happen immediately as synchronization of every step will be too expensive
      * for performance reasons. Even though the computation is still on going current implementation ensures no new results
-     * will be saved into memory.
+     * will be saved into memory after this method returns. This method waits only for moves which are being stored at
+     * the moment of the cancellation, which takes a few instructions.
      */
     public void cancel() {
-        synchronized (this.lock) {
-            this.isCancel = true;
+        this.state.compareAndSet(RUNNING, CANCELLING);
+        notifyWaiting();
+        while (this.publishing.get() != 0) {
+            Thread.onSpinWait();
+        }
+        if (this.state.getAndSet(DONE) != DONE) {
+            notifyWaiting();
+            final ScheduledFuture<?> pendingTimeout;
+            synchronized (this.lock) {
+                pendingTimeout = this.timeout;
+                this.timeout = null;
+            }
+            if (pendingTimeout != null) {
+                pendingTimeout.cancel(false);
+            }
         }
-        this.pool.shutdownNow();
     }
 
     /**
      * Returns {@code true} only if this task is still running. See javadoc for cancellation policy.
+     * All found moves are available by {@link #partialResult()} when this method returns false.
      *
      * @return true or false whether the computation is ongoing
      */
     public boolean isRunning() {
+        return this.state.get() != DONE;
+    }
+
+    /**
+     * The state is read before the queue, because the last move may be published between an empty read of the queue
+     * and the end of the computation. No move is stored after the computation is {@link #DONE}, so the queue read after
+     * seeing {@link #DONE} holds every remaining move.
+     *
+     * @param deadline value of {@link System#nanoTime()} after which waiting is stopped or {@link #NO_DEADLINE}
+     * @return next found move or null when there is no move before the deadline or there will be no more moves
+     */
+    private Move take(final long deadline) throws InterruptedException {
+        final var isDone = this.state.get() == DONE;
+        final var move = takeNow();
+        if (move != null || isDone) {
+            return move;
+        }
         synchronized (this.lock) {
-            return !this.isCancel;
+            this.waiting.incrementAndGet();
+            try {
+                while (true) {
+                    final var isFinished = this.state.get() == DONE;
+                    final var found = takeNow();
+                    if (found != null || isFinished) {
+                        return found;
+                    }
+                    if (deadline == NO_DEADLINE) {
+                        this.lock.wait();
+                    } else {
+                        final var remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            return null;
+                        }
+                        TimeUnit.NANOSECONDS.timedWait(this.lock, remaining);
+                    }
+                }
+            } finally {
+                this.waiting.decrementAndGet();
+            }
+        }
+    }
+
+    private Move takeNow() {
+        final var move = this.allMoves.poll();
+        if (move != null) {
+            this.bufferedMoves.decrementAndGet();
+            notifyWaiting();
+            resumeSearch();
+        }
+        return move;
+    }
+
+    /**
+     * This method saves the found move, waiting while the buffer is full. Moves found after the cancellation are not
+     * saved. It is used by the parallel computation, the sequential one does not wait, see
+     * {@link #publishPendingMoves()}.
+     *
+     * @param move which has been found
+     * @return true when the computation should be continued
+     */
+    private boolean publish(final Move move) {
+        while (!tryReserveSpace()) {
+            if (!awaitFreeSpace()) {
+                return false;
+            }
+        }
+        return store(move);
+    }
+
+    /**
+     * This method saves the found move in the place reserved by {@link #tryReserveSpace()}. The lock is taken only when
+     * some thread waits for the move.
+     *
+     * @param move which has been found
+     * @return true when the computation should be continued
+     */
+    private boolean store(final Move move) {
+        final boolean isLimitReached;
+        this.publishing.incrementAndGet();
+        try {
+            final var limited = this.options.maxMoves() != Long.MAX_VALUE;
+            final var found = limited ? this.foundMoves.incrementAndGet() : 0;
+            if (this.state.get() != RUNNING || found > this.options.maxMoves()) {
+                this.bufferedMoves.decrementAndGet();
+                return false;
+            }
+            this.allMoves.add(move);
+            if (this.cachedMoves != null) {
+                this.cachedMoves.add(move);
+            }
+            isLimitReached = limited && found == this.options.maxMoves();
+        } finally {
+            this.publishing.decrementAndGet();
+        }
+        notifyWaiting();
+        if (isLimitReached) {
+            this.state.compareAndSet(RUNNING, CANCELLING);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return true when a place in the buffer has been reserved, false when the buffer is full
+     */
+    private boolean tryReserveSpace() {
+        while (true) {
+            final var buffered = this.bufferedMoves.get();
+            if (buffered >= this.bufferCapacity) {
+                return false;
+            }
+            if (this.bufferedMoves.compareAndSet(buffered, buffered + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return true when there may be space in the buffer, false when the computation has been cancelled
+     */
+    private boolean awaitFreeSpace() {
+        try {
+            ForkJoinPool.managedBlock(new FreeSpaceBlocker());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.state.compareAndSet(RUNNING, CANCELLING);
+        }
+        return this.state.get() == RUNNING;
+    }
+
+    private boolean hasFreeSpace() {
+        return this.bufferedMoves.get() < this.bufferCapacity;
+    }
+
+    private void notifyWaiting() {
+        if (this.waiting.get() > 0) {
+            synchronized (this.lock) {
+                this.lock.notifyAll();
+            }
         }
     }
 
     private void startComputation() {
-        findAllMovesIteratively(this.board);
+        scheduleTimeout();
+        if (this.parallel) {
+            try {
+                new ParallelSearch(this.board, MovePath.empty()).invoke();
+            } finally {
+                cancel();
+            }
+            return;
+        }
+        final var moves = this.cache.isEnabled() ? this.cache.get(this.board.positionKey()) : null;
+        if (moves != null) {
+            this.pendingMoves.addAll(moves);
+        } else {
+            this.isCacheMiss = this.cache.isEnabled();
+            this.levels.push(new Level(this.board, MovePath.empty()));
+        }
+        searchSequentially();
+    }
+
+    private void scheduleTimeout() {
+        if (this.state.get() == DONE) {
+            return;
+        }
+        final var scheduled = TIMEOUT_SCHEDULER.schedule(this::cancel, this.timeoutMillis, TimeUnit.MILLISECONDS);
         synchronized (this.lock) {
-            this.isCancel = true;
+            this.timeout = scheduled;
+        }
+        if (this.state.get() == DONE) {
+            scheduled.cancel(false);
+        }
+    }
+
+    /**
+     * The sequential search explores {@link #levels} one after another and keeps found moves in {@link #pendingMoves}
+     * until there is space for them in the buffer. When the buffer is full the search is suspended and this method
+     * returns, see {@link #isSuspended}. Moves are found in the same order as by
+     * {@link #findAllMovesIteratively(Board, MovePath)}.
+     */
+    private void searchSequentially() {
+        var isSuspended = false;
+        try {
+            while (!canStopComputation()) {
+                if (!publishPendingMoves()) {
+                    isSuspended = suspend();
+                    if (isSuspended) {
+                        return;
+                    }
+                } else if (this.levels.isEmpty()) {
+                    if (this.isCacheMiss && !canStopComputation()) {
+                        this.cache.put(this.board.positionKey(), Collections.unmodifiableList(this.cachedMoves));
+                    }
+                    return;
+                } else {
+                    exploreLevel(this.levels, this.pendingMoves::add);
+                }
+            }
+        } finally {
+            if (!isSuspended) {
+                cancel();
+            }
+        }
+    }
+
+    /**
+     * @return false when the buffer is full, true when all pending moves have been stored or the computation has been
+     * stopped
+     */
+    private boolean publishPendingMoves() {
+        while (!this.pendingMoves.isEmpty() && !canStopComputation()) {
+            if (!tryReserveSpace()) {
+                return false;
+            }
+            store(this.pendingMoves.poll());
         }
+        return true;
     }
 
     /**
-     * The iterative implementation of depth-first search. It uses inner class for tracking prior found directions with
-     * regard to board that contains those executed directions.
+     * The flag is set before the buffer is checked again and {@link #resumeSearch()} checks the flag after it frees the
+     * space, so exactly one of them continues the search.
      *
-     * @param board to start looking for a moves
+     * @return true when the search has been suspended, false when it should be continued by the calling thread
      */
-    private void findAllMovesIteratively(final Board<?> board) {
-        final class Level {
-            private final Board<?> board;
-            private final Stack<Direction> stackOfPriorMoves;
+    private boolean suspend() {
+        this.isSuspended.set(true);
+        if (canStopComputation() || hasFreeSpace()) {
+            return !this.isSuspended.compareAndSet(true, false);
+        }
+        return true;
+    }
 
-            Level(Board<?> board) {
-                this.board = board;
-                this.stackOfPriorMoves = new Stack<>();
+    /**
+     * This method submits the suspended sequential search to the executor again when there is space in the buffer.
+     */
+    private void resumeSearch() {
+        if (this.isSuspended.get()
+            && this.state.get() == RUNNING
+            && hasFreeSpace()
+            && this.isSuspended.compareAndSet(true, false)) {
+            try {
+                this.executor.execute(this::searchSequentially);
+            } catch (RejectedExecutionException e) {
+                cancel();
             }
+        }
+    }
+
+    /**
+     * The iterative implementation of depth-first search used by {@link ParallelSearch}. Prior directions are kept as
+     * the {@link MovePath}, so levels share their common directions and the {@link Move} is created only when it is
+     * found.
+     *
+     * @param board           to start looking for a moves
+     * @param priorDirections directions which have been executed to reach the given board
+     */
+    private void findAllMovesIteratively(final Board<?> board, final MovePath priorDirections) {
+        final var currentLevels = new Stack<Level>();
+        currentLevels.push(new Level(board, priorDirections));
+        while (!canStopComputation() && !currentLevels.isEmpty()) {
+            exploreLevel(currentLevels, this::publish);
+        }
+    }
 
-            Level(Board<?> board, Stack<Direction> stack) {
-                this.board = board;
-                this.stackOfPriorMoves = stack;
+    /**
+     * This method explores all directions of the level on the top of the stack. Every found move is given to the
+     * action and every not finished direction is pushed on the stack as a deeper level. When directions are
+     * prioritized by {@link LegalMovesOptions} the levels are pushed in the reversed order, so the most promising one
+     * is explored first.
+     *
+     * @param levels stack of levels which are not explored yet
+     * @param action receiving found moves, it returns false when the computation should be stopped
+     */
+    private void exploreLevel(final Stack<Level> levels, final Predicate<Move> action) {
+        final var level = levels.pop();
+        final var deeperLevels = new ArrayList<Level>();
+        for (var move : this.directions) {
+            if (!level.board.isMoveAllowed(move)) {
+                continue;
             }
+            final var afterMove = level.board.executeMove(move);
 
-            Stack<Direction> push(Direction direction) {
-                final var newStack = new Stack<Direction>();
-                newStack.addAll(stackOfPriorMoves);
-                newStack.push(direction);
-                return newStack;
+            if (isItEnd(afterMove.getBallAPI())) {
+                if (!action.test(level.priorMoves.append(move).toMove())) {
+                    break;
+                }
+            } else {
+                deeperLevels.add(new Level(afterMove, level.priorMoves.append(move)));
             }
         }
-        var currentLevels = new Stack<Level>();
-        currentLevels.push(new Level(board));
+        if (this.options.isPrioritized()) {
+            Collections.reverse(deeperLevels);
+        }
+        levels.addAll(deeperLevels);
+    }
+
+    /**
+     * This class holds the board reached by prior directions of the search together with those directions.
+     */
+    private static final class Level {
+        private final Board<?> board;
+        private final MovePath priorMoves;
+
+        Level(final Board<?> board, final MovePath priorMoves) {
+            this.board = board;
+            this.priorMoves = priorMoves;
+        }
+    }
 
-        while (!canStopComputation() && !currentLevels.isEmpty()) {
-            var level = currentLevels.pop();
-            for (var move : level.board.getBallAPI().getAllowedDirection()) {
-                final var afterMove = level.board.executeMove(move);
+    /**
+     * This class blocks the thread of the parallel computation while the buffer is full. Blocking through
+     * {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)} lets the {@link ForkJoinPool} start a spare
+     * thread meanwhile.
+     */
+    private final class FreeSpaceBlocker implements ForkJoinPool.ManagedBlocker {
+
+        @Override
+        public boolean block() throws InterruptedException {
+            synchronized (lock) {
+                waiting.incrementAndGet();
+                try {
+                    while (!isReleasable()) {
+                        lock.wait();
+                    }
+                } finally {
+                    waiting.decrementAndGet();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return state.get() != RUNNING || hasFreeSpace();
+        }
+    }
+
+    /**
+     * This task finds all moves which start with the given directions. Every not finished direction becomes a new
+     * task, so idle threads can steal it. When there are already enough queued tasks the rest of the search is done
+     * by {@link #findAllMovesIteratively(Board, MovePath)} within this task.
+     */
+    private final class ParallelSearch extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final int SURPLUS_TASKS = 3;
+        private final Board<?> board;
+        private final MovePath priorDirections;
+
+        ParallelSearch(final Board<?> board, final MovePath priorDirections) {
+            this.board = board;
+            this.priorDirections = priorDirections;
+        }
+
+        @Override
+        protected void compute() {
+            if (canStopComputation()) {
+                return;
+            }
+            if (getSurplusQueuedTaskCount() > SURPLUS_TASKS) {
+                findAllMovesIteratively(this.board, this.priorDirections);
+                return;
+            }
+            final var subtasks = new ArrayList<ParallelSearch>();
+            for (var move : this.board.getBallAPI().getAllowedDirection()) {
+                final var afterMove = this.board.executeMove(move);
 
                 if (isItEnd(afterMove.getBallAPI())) {
-                    this.allMoves.add(new Move(level.push(move)));
-                    if (canStopComputation()) {
-                        break;
+                    if (!publish(this.priorDirections.append(move).toMove())) {
+                        return;
                     }
                 } else {
-                    final var item = new Level(afterMove, level.push(move));
-                    currentLevels.push(item);
+                    subtasks.add(new ParallelSearch(afterMove, this.priorDirections.append(move)));
                 }
             }
+            invokeAll(subtasks);
         }
     }
 
     private boolean canStopComputation() {
-        synchronized (this.lock) {
-            return this.isCancel;
-        }
+        return this.state.get() != RUNNING;
     }
 
     private boolean isItEnd(final Point ball) {
-        return ball.getAllowedDirection().size() == 7 || ball.getAllowedDirection().size() == 0;
+        final var allowed = ball.countAllowedDirections();
+        return allowed == 7 || allowed == 0;
+    }
+
+    private static ExecutorService defaultExecutor() {
+        final var threads = Runtime.getRuntime().availableProcessors();
+        final var executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), daemonThreads("legal-moves-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ScheduledThreadPoolExecutor timeoutScheduler() {
+        final var scheduler = new ScheduledThreadPoolExecutor(1, daemonThreads("legal-moves-timeout-"));
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    private static ThreadFactory daemonThreads(final String prefix) {
+        final var counter = new AtomicInteger();
+        return runnable -> {
+            final var thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 }
@@ -0,0 +1,127 @@
+package com.github.lipinskipawel.board.engine;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * This class is an API.
+ * This class holds options of the computation of legal moves started by
+ * {@link Board#allLegalMovesFuture(LegalMovesOptions)}. Instances are created by the builder returned from
+ * {@link #aLegalMovesOptions()}. Options without any change of the builder give the same computation as
+ * {@link Board#allLegalMovesFuture()}.
+ * <p>
+ * The computation can be limited to the given number of moves and can explore directions in the given priority order.
+ * Directions earlier in the order are explored first, so moves which start with them are found first. Both options
+ * together give the most promising moves within bounded time and memory.
+ */
+public final class LegalMovesOptions {
+    private static final LegalMovesOptions DEFAULT = aLegalMovesOptions().build();
+    private final long maxMoves;
+    private final Comparator<Direction> directionOrder;
+    private final boolean towardsOpponentGoal;
+
+    private LegalMovesOptions(final Builder builder) {
+        this.maxMoves = builder.maxMoves;
+        this.directionOrder = builder.directionOrder;
+        this.towardsOpponentGoal = builder.towardsOpponentGoal;
+    }
+
+    /**
+     * @return options which give the same computation as {@link Board#allLegalMovesFuture()}
+     */
+    public static LegalMovesOptions defaultOptions() {
+        return DEFAULT;
+    }
+
+    public static Builder aLegalMovesOptions() {
+        return new Builder();
+    }
+
+    /**
+     * @return maximum number of moves found by the computation
+     */
+    public long maxMoves() {
+        return this.maxMoves;
+    }
+
+    /**
+     * @return true when directions are explored in the given priority order
+     */
+    boolean isPrioritized() {
+        return this.directionOrder != null || this.towardsOpponentGoal;
+    }
+
+    /**
+     * @param board for which moves are found
+     * @return all directions in the order in which they are explored on the given board
+     */
+    Direction[] directionsInOrder(final Board<?> board) {
+        final var directions = Geometry.DIRECTIONS.clone();
+        if (this.towardsOpponentGoal) {
+            final var provider = board.getPlayerProvider();
+            final var towardsTop = provider.current().equals(provider.first());
+            Arrays.sort(directions, Comparator.comparingInt(direction ->
+                towardsTop ? Geometry.rowChange(direction) : -Geometry.rowChange(direction)));
+        } else if (this.directionOrder != null) {
+            Arrays.sort(directions, this.directionOrder);
+        }
+        return directions;
+    }
+
+    public static final class Builder {
+        private long maxMoves;
+        private Comparator<Direction> directionOrder;
+        private boolean towardsOpponentGoal;
+
+        private Builder() {
+            this.maxMoves = Long.MAX_VALUE;
+            this.directionOrder = null;
+            this.towardsOpponentGoal = false;
+        }
+
+        /**
+         * The computation is finished as soon as the given number of moves has been found.
+         *
+         * @param maxMoves maximum number of moves, must be positive
+         * @return this builder
+         * @throws IllegalArgumentException when maxMoves is not positive
+         */
+        public Builder withMaxMoves(final long maxMoves) {
+            if (maxMoves < 1) {
+                throw new IllegalArgumentException("Max moves must be positive, was: " + maxMoves);
+            }
+            this.maxMoves = maxMoves;
+            return this;
+        }
+
+        /**
+         * Directions which are smaller according to the given comparator are explored first. It replaces the order set
+         * by {@link #withDirectionsTowardsOpponentGoal()}.
+         *
+         * @param directionOrder order of directions
+         * @return this builder
+         */
+        public Builder withDirectionOrder(final Comparator<Direction> directionOrder) {
+            this.directionOrder = directionOrder;
+            this.towardsOpponentGoal = false;
+            return this;
+        }
+
+        /**
+         * Directions which move the ball towards the goal of the opponent of the current player are explored first,
+         * then directions along the goal line and the directions which move the ball towards the own goal at the end.
+         * It replaces the order set by {@link #withDirectionOrder(Comparator)}.
+         *
+         * @return this builder
+         */
+        public Builder withDirectionsTowardsOpponentGoal() {
+            this.directionOrder = null;
+            this.towardsOpponentGoal = true;
+            return this;
+        }
+
+        public LegalMovesOptions build() {
+            return new LegalMovesOptions(this);
+        }
+    }
+}
@@ -3,65 +3,114 @@ package com.github.lipinskipawel.board.engine;
 import com.github.lipinskipawel.board.internal.NoOpLogger;
 import com.github.lipinskipawel.board.spi.Logger;
 
-import java.util.ArrayList;
+import java.nio.FloatBuffer;
 import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
-
-import static java.util.Comparator.comparingInt;
 
+/**
+ * This class keeps the state of every point on the board as a persistent structure. Points are packed in the same way as
+ * in {@link PackedPoints}, one byte per point, but the {@code long} words are grouped into small chunks. Chunks are
+ * never modified after creation. Every move copies only the array of references to chunks and the chunks that hold
+ * the two changed points, all other chunks are shared with the previous position.
+ */
 final class LogicalPoints implements Transformation {
     private static final Logger LOGGER = new NoOpLogger();
-    private final List<Point> points;
-    private final Point ballPosition;
+    private static final int POINTS_IN_CHUNK_SHIFT = 4;
+    private static final int WORDS_IN_CHUNK = (1 << POINTS_IN_CHUNK_SHIFT) / 8;
+    private static final long[][] INITIAL_CHUNKS = toChunks(PackedPoints.initialPoints());
+    private final long[][] chunks;
+    private final int ballPosition;
+    private final long positionKey;
 
     LogicalPoints() {
-        this.points = PointUtils.initialPoints();
-        this.ballPosition = points.get(58);
+        this(INITIAL_CHUNKS, Geometry.STARTING_BALL_POSITION, ZobristKeys.initialKey());
     }
 
-    private LogicalPoints(final List<Point> points,
-                          final Point ballPosition) {
-        this.points = points;
-        this.ballPosition = points.get(ballPosition.getPosition());
+    private LogicalPoints(final long[][] chunks,
+                          final int ballPosition,
+                          final long positionKey) {
+        this.chunks = chunks;
+        this.ballPosition = ballPosition;
+        this.positionKey = positionKey;
     }
 
     LogicalPoints undoMove(final Direction direction) {
-        final var newBallPosition = computeBallPosition(direction.opposite());
-        final var fakeNewMovePoints = new ArrayList<>(points);
-
-        final var newPositionPoint = points.get(this.ballPosition.getPosition());
-        newPositionPoint.setAvailableDirections(direction.opposite());
-        fakeNewMovePoints.set(this.ballPosition.getPosition(), newPositionPoint);
-
-        final var originalPositionPoint = fakeNewMovePoints.get(newBallPosition);
-        originalPositionPoint.setAvailableDirections(direction);
-        fakeNewMovePoints.set(newBallPosition, originalPositionPoint);
+        final var newBallPosition = Geometry.neighbour(this.ballPosition, direction.opposite());
+        final var afterUndo = this.chunks.clone();
+        setAvailable(afterUndo, this.ballPosition, direction.opposite());
+        setAvailable(afterUndo, newBallPosition, direction);
 
+        final var key = this.positionKey
+            ^ ZobristKeys.edge(newBallPosition, direction)
+            ^ ZobristKeys.ball(this.ballPosition)
+            ^ ZobristKeys.ball(newBallPosition);
         LOGGER.trace("undoMove has been made");
-        return new LogicalPoints(fakeNewMovePoints, originalPositionPoint);
+        return new LogicalPoints(afterUndo, newBallPosition, key);
     }
 
     LogicalPoints makeAMove(final Direction destination) {
         if (isAvailable(destination)) {
 
-            final var newPosition = computeBallPosition(destination);
-            final var currentBall = new Point(points.get(getBallPosition())).notAvailableDirection(destination);
-
-            final var afterMove = new ArrayList<>(points);
-            afterMove.set(getBallPosition(), currentBall);
+            final var newPosition = Geometry.neighbour(this.ballPosition, destination);
+            final var afterMove = this.chunks.clone();
+            setUnavailable(afterMove, this.ballPosition, destination);
+            setUnavailable(afterMove, newPosition, destination.opposite());
 
-            afterMove.set(newPosition, afterMove.get(newPosition).notAvailableDirection(destination.opposite()));
+            final var key = this.positionKey
+                ^ ZobristKeys.edge(getBallPosition(), destination)
+                ^ ZobristKeys.ball(getBallPosition())
+                ^ ZobristKeys.ball(newPosition);
             LOGGER.trace("makeAMove has been made");
-            return new LogicalPoints(afterMove, afterMove.get(newPosition));
+            return new LogicalPoints(afterMove, newPosition, key);
         }
         LOGGER.trace("makeAMove has NOT been made. Returning this reference.");
         return this;
     }
 
-    private int computeBallPosition(final Direction destination) {
-        int moveBall = destination.changeToInt();
-        return this.ballPosition.getPosition() + moveBall;
+    private void setAvailable(final long[][] copy, final int position, final Direction direction) {
+        if ((Geometry.initialMask(position) & (1 << Geometry.bit(direction))) != 0) {
+            writableChunk(copy, position)[wordInChunk(position)] |= 1L << bitInWord(position, direction);
+        }
+    }
+
+    private void setUnavailable(final long[][] copy, final int position, final Direction direction) {
+        writableChunk(copy, position)[wordInChunk(position)] &= ~(1L << bitInWord(position, direction));
+    }
+
+    /**
+     * Returns the chunk which holds the given position and can be modified. Chunk is copied only when it is still
+     * shared with this object.
+     *
+     * @param copy     copy of references to chunks of this object
+     * @param position of the point
+     * @return chunk which is not shared with any other object
+     */
+    private long[] writableChunk(final long[][] copy, final int position) {
+        final var index = position >>> POINTS_IN_CHUNK_SHIFT;
+        if (copy[index] == this.chunks[index]) {
+            copy[index] = copy[index].clone();
+        }
+        return copy[index];
+    }
+
+    private int mask(final int position) {
+        final var word = this.chunks[position >>> POINTS_IN_CHUNK_SHIFT][wordInChunk(position)];
+        return (int) (word >>> ((position & 7) << 3)) & 0xFF;
+    }
+
+    private static int wordInChunk(final int position) {
+        return (position >>> 3) & (WORDS_IN_CHUNK - 1);
+    }
+
+    private static int bitInWord(final int position, final Direction direction) {
+        return ((position & 7) << 3) + Geometry.bit(direction);
+    }
+
+    private static long[][] toChunks(final long[] points) {
+        final var result = new long[(points.length + WORDS_IN_CHUNK - 1) / WORDS_IN_CHUNK][WORDS_IN_CHUNK];
+        for (int word = 0; word < points.length; word++) {
+            result[word / WORDS_IN_CHUNK][word % WORDS_IN_CHUNK] = points[word];
+        }
+        return result;
     }
 
     /**
@@ -71,22 +120,40 @@ final class LogicalPoints implements Transformation {
      * @return
      */
     boolean isOtherPlayerToMove() {
-        return ballPosition.isOnTop() || ballPosition.isOnBottom() ||
-            ballPosition.getUnavailableDirection().size() == 1 ||
-            ballPosition.getAllowedDirection().size() == 8 ||
-            ballPosition.getAllowedDirection().isEmpty();
+        final var allowed = Integer.bitCount(mask(this.ballPosition));
+        return Geometry.isGoal(this.ballPosition) || allowed == 7 || allowed == 8 || allowed == 0;
     }
 
     Point getBall() {
-        return new Point(ballPosition);
+        return new Point(this.ballPosition, mask(this.ballPosition));
     }
 
     boolean isAvailable(Direction direction) {
-        return this.ballPosition.isAvailable(direction);
+        return (mask(this.ballPosition) & (1 << Geometry.bit(direction))) != 0;
     }
 
     int getBallPosition() {
-        return this.ballPosition.getPosition();
+        return this.ballPosition;
+    }
+
+    /**
+     * @return key of drawn moves and the ball position, see {@link ZobristKeys}
+     */
+    long positionKey() {
+        return this.positionKey;
+    }
+
+    /**
+     * Chunks hold words in the same layout as {@link PackedPoints}, so they are copied word by word.
+     *
+     * @return copy of the points of this object as {@link PackedPoints}
+     */
+    long[] packedPoints() {
+        final var packed = new long[PackedPoints.WORDS];
+        for (int word = 0; word < packed.length; word++) {
+            packed[word] = this.chunks[word / WORDS_IN_CHUNK][word % WORDS_IN_CHUNK];
+        }
+        return packed;
     }
 
     /**
@@ -97,23 +164,46 @@ final class LogicalPoints implements Transformation {
      */
     @Override
     public int[] transform() {
-        return points
-            .stream()
-            .sorted(comparingInt(Point::getPosition))
-            .map(Point::getAllDirections)
-            .flatMap(List::stream)
-            .mapToInt(x -> x ? 1 : 0)
-            .toArray();
+        final var result = new int[Board.TRANSFORMATION_LENGTH];
+        transform(result, 0);
+        return result;
     }
 
     @Override
     public double[] nonBinaryTransformation() {
-        return points
-            .stream()
-            .sorted(comparingInt(Point::getPosition))
-            .map(LogicalPoints::nonBinary)
-            .flatMapToDouble(Arrays::stream)
-            .toArray();
+        final var result = new double[Board.TRANSFORMATION_LENGTH];
+        nonBinaryTransformation(result, 0);
+        return result;
+    }
+
+    @Override
+    public int transform(final int[] destination, final int offset) {
+        return TransformationWriter.transform(this::mask, destination, offset);
+    }
+
+    @Override
+    public int transform(final float[] destination, final int offset) {
+        return TransformationWriter.transform(this::mask, destination, offset);
+    }
+
+    @Override
+    public int transform(final double[] destination, final int offset) {
+        return TransformationWriter.transform(this::mask, destination, offset);
+    }
+
+    @Override
+    public int transform(final FloatBuffer destination, final int index) {
+        return TransformationWriter.transform(this::mask, destination, index);
+    }
+
+    @Override
+    public int nonBinaryTransformation(final double[] destination, final int offset) {
+        return TransformationWriter.nonBinaryTransformation(this::mask, destination, offset);
+    }
+
+    @Override
+    public int nonBinaryTransformation(final float[] destination, final int offset) {
+        return TransformationWriter.nonBinaryTransformation(this::mask, destination, offset);
     }
 
     /**
@@ -151,18 +241,18 @@ final class LogicalPoints implements Transformation {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         LogicalPoints that = (LogicalPoints) o;
-        return Objects.equals(points, that.points) && Objects.equals(ballPosition, that.ballPosition);
+        return ballPosition == that.ballPosition && Arrays.deepEquals(chunks, that.chunks);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(points, ballPosition);
+        return Long.hashCode(positionKey);
     }
 
     @Override
     public String toString() {
         return "LogicalPoints{" +
-            "points=" + points +
+            "points=" + Arrays.deepToString(chunks) +
             ", ballPosition=" + ballPosition +
             '}';
     }
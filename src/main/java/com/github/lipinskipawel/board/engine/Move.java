@@ -2,27 +2,116 @@ package com.github.lipinskipawel.board.engine;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.function.Consumer;
 
+/**
+ * This class represents the move of the player, which is a sequence of directions.
+ * <p>
+ * Directions are packed, every direction occupies 3 bits. First {@value #DIRECTIONS_IN_WORD} directions are kept in a
+ * single {@code long}, only longer moves need an additional array. Methods {@link #length()},
+ * {@link #directionAt(int)} and {@link #forEachDirection(Consumer)} read directions without creating any objects.
+ */
 final public class Move implements Serializable {
-    private final List<Direction> directions;
+    private static final int BITS_PER_DIRECTION = 3;
+    private static final int DIRECTIONS_IN_WORD = Long.SIZE / BITS_PER_DIRECTION;
+    private static final long DIRECTION_MASK = (1L << BITS_PER_DIRECTION) - 1;
+    private static final long[] NO_OVERFLOW = new long[0];
+    private static final Move EMPTY_MOVE = new Move(Collections.emptyList());
+    private final int length;
+    private final long firstDirections;
+    private final long[] nextDirections;
 
     public Move(List<Direction> directions) {
-        Direction[] arr = new Direction[directions.size()];
-        for (int i = 0; i < directions.size(); i++) {
-            arr[i] = directions.get(i);
-        }
-        this.directions = List.of(arr);
+        this(pack(directions), directions.size());
+    }
+
+    /**
+     * Creates the move from codes of directions, see {@link Geometry#bit(Direction)}. Only the lowest 3 bits of every
+     * code are used, so codes can carry additional flags in higher bits.
+     *
+     * @param codes of directions
+     * @param from  index of the first code of this move, inclusive
+     * @param to    index of the last code of this move, exclusive
+     */
+    Move(final int[] codes, final int from, final int to) {
+        this(pack(codes, from, to), to - from);
+    }
+
+    private Move(final long[] words, final int length) {
+        this.length = length;
+        this.firstDirections = words.length == 0 ? 0 : words[0];
+        this.nextDirections = words.length <= 1 ? NO_OVERFLOW : Arrays.copyOfRange(words, 1, words.length);
     }
 
     public static Move emptyMove() {
-        return new Move(Collections.emptyList());
+        return EMPTY_MOVE;
     }
 
+    /**
+     * This method returns a new list on every call. Use {@link #length()} and {@link #directionAt(int)} or
+     * {@link #forEachDirection(Consumer)} to read directions without creating any objects.
+     *
+     * @return list of all directions of this move
+     */
     public List<Direction> getMove() {
-        return new ArrayList<>(this.directions);
+        final var directions = new ArrayList<Direction>(this.length);
+        forEachDirection(directions::add);
+        return directions;
+    }
+
+    /**
+     * @return number of directions of this move
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * @param index of the direction, starting from 0
+     * @return direction at the given index
+     * @throws IndexOutOfBoundsException when index is negative or not less than {@link #length()}
+     */
+    public Direction directionAt(final int index) {
+        if (index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + this.length);
+        }
+        final var word = index < DIRECTIONS_IN_WORD
+            ? this.firstDirections
+            : this.nextDirections[index / DIRECTIONS_IN_WORD - 1];
+        final var shift = (index % DIRECTIONS_IN_WORD) * BITS_PER_DIRECTION;
+        return Geometry.DIRECTIONS[(int) ((word >>> shift) & DIRECTION_MASK)];
+    }
+
+    /**
+     * Passes every direction of this move to the given action, in order.
+     *
+     * @param action to perform for every direction
+     */
+    public void forEachDirection(final Consumer<Direction> action) {
+        for (int i = 0; i < this.length; i++) {
+            action.accept(directionAt(i));
+        }
+    }
+
+    private static long[] pack(final List<Direction> directions) {
+        final var words = new long[(directions.size() + DIRECTIONS_IN_WORD - 1) / DIRECTIONS_IN_WORD];
+        for (int i = 0; i < directions.size(); i++) {
+            final var shift = (i % DIRECTIONS_IN_WORD) * BITS_PER_DIRECTION;
+            words[i / DIRECTIONS_IN_WORD] |= (long) Geometry.bit(directions.get(i)) << shift;
+        }
+        return words;
+    }
+
+    private static long[] pack(final int[] codes, final int from, final int to) {
+        final var words = new long[(to - from + DIRECTIONS_IN_WORD - 1) / DIRECTIONS_IN_WORD];
+        for (int i = 0; i < to - from; i++) {
+            final var shift = (i % DIRECTIONS_IN_WORD) * BITS_PER_DIRECTION;
+            words[i / DIRECTIONS_IN_WORD] |= (codes[from + i] & DIRECTION_MASK) << shift;
+        }
+        return words;
     }
 
     @Override
@@ -30,18 +119,20 @@ final public class Move implements Serializable {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Move move = (Move) o;
-        return Objects.equals(directions, move.directions);
+        return length == move.length &&
+            firstDirections == move.firstDirections &&
+            Arrays.equals(nextDirections, move.nextDirections);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(directions);
+        return 31 * (31 * length + Long.hashCode(firstDirections)) + Arrays.hashCode(nextDirections);
     }
 
     @Override
     public String toString() {
         return "Move{" +
-            "directions=" + directions +
+            "directions=" + getMove() +
             '}';
     }
 }
@@ -4,69 +4,83 @@ import com.github.lipinskipawel.board.internal.NoOpLogger;
 import com.github.lipinskipawel.board.spi.Logger;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Queue;
-
-import static java.util.stream.Collectors.toList;
 
 /**
  * This class is responsible for holding all moves made by players and
  * computing current player to move. This class is also responsible for
  * 'small' moves made by the player during the game.
  * 'Small' move is when the ball is bouncing off the wall or different type of obstacle.
+ * <p>
+ * History is kept as a persistent list of directions, where every direction points to the previous one. Adding a
+ * direction and reverting the last one create a single node or reuse the previous one, so both run in constant time
+ * and every history shares its nodes with the histories it has been created from.
  */
 final class MoveHistory {
     private static final Logger LOGGER = new NoOpLogger();
-    private final Queue<Move> moves;
-    private final List<Direction> smallMove;
+    private static final MoveHistory EMPTY = new MoveHistory(null);
+    private final Node last;
 
     MoveHistory() {
-        this.moves = new LinkedList<>();
-        this.smallMove = new ArrayList<>();
+        this(null);
     }
 
-    private MoveHistory(final LinkedList<Move> moves,
-                        final List<Direction> smallMove) {
-        this.moves = moves;
-        this.smallMove = smallMove;
+    private MoveHistory(final Node last) {
+        this.last = last;
     }
 
     List<Move> allMoves() {
-        return new ArrayList<>(this.moves);
+        final var moves = new Move[moveCount()];
+        var node = lastFinishedMove();
+        for (int i = moves.length - 1; i >= 0; i--) {
+            final var directions = new Direction[node.size - sizeOfFinishedMoves(node.previous)];
+            for (int j = directions.length - 1; j >= 0; j--) {
+                directions[j] = node.direction;
+                node = node.previous;
+            }
+            moves[i] = new Move(Arrays.asList(directions));
+        }
+        return new ArrayList<>(Arrays.asList(moves));
     }
 
     List<Direction> allDirections() {
-        final var directions = new ArrayList<>(this.moves)
-            .stream()
-            .map(Move::getMove)
-            .flatMap(List::stream)
-            .collect(toList());
-        directions.addAll(new ArrayList<>(this.smallMove));
-        LOGGER.trace("allDirections return " + directions + " directions");
-        return directions;
+        final var directions = new Direction[size()];
+        var node = this.last;
+        for (int i = directions.length - 1; i >= 0; i--) {
+            directions[i] = node.direction;
+            node = node.previous;
+        }
+        LOGGER.trace("allDirections return " + directions.length + " directions");
+        return new ArrayList<>(Arrays.asList(directions));
     }
 
+    /**
+     * Adds all directions of the given move and finishes the move of the current player. Directions of the small move
+     * that has been made before become the beginning of the added move. Move without any directions which does not
+     * finish the small move is ignored.
+     *
+     * @param move to add
+     * @return history with the given move
+     */
     MoveHistory addMove(final Move move) {
-        if (this.smallMove.size() > 0) {
-            final var copyMoves = new LinkedList<>(this.moves);
-            final var copySmallMoves = new ArrayList<>(this.smallMove);
-            copySmallMoves.addAll(move.getMove());
-            copyMoves.add(new Move(copySmallMoves));
-            return new MoveHistory(copyMoves, new ArrayList<>());
-        } else {
-            final var copyMoves = new LinkedList<>(this.moves);
-            copyMoves.add(move);
-            return new MoveHistory(copyMoves, new ArrayList<>());
+        if (move.length() == 0) {
+            if (!isSmallMoveHasBeenMade()) {
+                return this;
+            }
+            return new MoveHistory(new Node(this.last.direction, true, this.last.previous));
+        }
+        var node = this.last;
+        for (int i = 0; i < move.length(); i++) {
+            node = new Node(move.directionAt(i), i == move.length() - 1, node);
         }
+        return new MoveHistory(node);
     }
 
     MoveHistory add(final Direction direction) {
-        final var copySmall = new ArrayList<>(this.smallMove);
-        copySmall.add(direction);
-        return new MoveHistory(new LinkedList<>(this.moves), copySmall);
+        return new MoveHistory(new Node(direction, false, this.last));
     }
 
     /**
@@ -76,15 +90,10 @@ final class MoveHistory {
      * @return
      */
     MoveHistory forceUndo() {
-        if (this.smallMove.size() == 0) {
-            final var copyMoves = new LinkedList<>(this.moves);
-            final var directions = copyMoves.removeLast().getMove();
-            directions.remove(directions.size() - 1);
-            return new MoveHistory(copyMoves, directions);
+        if (this.last == null) {
+            throw new RuntimeException("There is no move to undo");
         }
-        final var copySmall = new ArrayList<>(this.smallMove);
-        copySmall.remove(copySmall.size() - 1);
-        return new MoveHistory(new LinkedList<>(this.moves), copySmall);
+        return of(this.last.previous);
     }
 
     /**
@@ -94,11 +103,9 @@ final class MoveHistory {
      * @return
      */
     MoveHistory undoMove() {
-        if (this.moves.size() <= 0)
+        if (moveCount() <= 0)
             return this;
-        final var copyMoves = new LinkedList<>(this.moves);
-        copyMoves.removeLast();
-        return new MoveHistory(copyMoves, new ArrayList<>());
+        return of(lastFinishedMove().previous).withoutSmallMove();
     }
 
     /**
@@ -107,41 +114,69 @@ final class MoveHistory {
      * @return
      */
     MoveHistory undo() {
-        if (this.smallMove.size() == 0)
-            return new MoveHistory(new LinkedList<>(this.moves), new ArrayList<>(this.smallMove));
-        final var copySmall = new ArrayList<>(this.smallMove);
-        copySmall.remove(copySmall.size() - 1);
-        return new MoveHistory(new LinkedList<>(this.moves), copySmall);
+        if (!isSmallMoveHasBeenMade())
+            return this;
+        return of(this.last.previous);
     }
 
     boolean currentPlayer() {
-        return this.moves.size() % 2 == 0;
+        return moveCount() % 2 == 0;
     }
 
     /**
      * @return last Direction
      */
     Optional<Direction> getLastDirection() {
-        if (this.smallMove.size() == 0) {
-            if (this.moves.size() == 0) {
-                return Optional.empty();
-            } else {
-                // should be remove last item
-                final var copyMoves = new LinkedList<>(this.moves);
-                final var last = copyMoves.removeLast().getMove();
-                return Optional.of(last.get(last.size() - 1));
-            }
-        } else {
-            return Optional.of(this.smallMove.get(this.smallMove.size() - 1));
-        }
+        return this.last == null ? Optional.empty() : Optional.of(this.last.direction);
     }
 
     boolean isSmallMoveHasBeenMade() {
-        return !this.smallMove.isEmpty();
+        return this.last != null && !this.last.endsMove;
     }
 
     Optional<Move> getLastMove() {
-        return Optional.ofNullable(this.moves.peek());
+        final var moves = allMoves();
+        return moves.isEmpty() ? Optional.empty() : Optional.of(moves.get(moves.size() - 1));
+    }
+
+    private int size() {
+        return this.last == null ? 0 : this.last.size;
+    }
+
+    private int moveCount() {
+        return this.last == null ? 0 : this.last.moveCount;
+    }
+
+    private Node lastFinishedMove() {
+        var node = this.last;
+        while (node != null && !node.endsMove) {
+            node = node.previous;
+        }
+        return node;
+    }
+
+    private MoveHistory withoutSmallMove() {
+        return isSmallMoveHasBeenMade() ? of(lastFinishedMove()) : this;
+    }
+
+    private static int sizeOfFinishedMoves(final Node node) {
+        var finished = node;
+        while (finished != null && !finished.endsMove) {
+            finished = finished.previous;
+        }
+        return finished == null ? 0 : finished.size;
+    }
+
+    private static MoveHistory of(final Node last) {
+        return last == null ? EMPTY : new MoveHistory(last);
+    }
+
+    private List<Direction> smallMove() {
+        final var smallMove = new ArrayList<Direction>();
+        for (var node = this.last; node != null && !node.endsMove; node = node.previous) {
+            smallMove.add(0, node.direction);
+        }
+        return smallMove;
     }
 
     @Override
@@ -149,19 +184,52 @@ final class MoveHistory {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         MoveHistory that = (MoveHistory) o;
-        return Objects.equals(moves, that.moves) && Objects.equals(smallMove, that.smallMove);
+        if (size() != that.size() || moveCount() != that.moveCount()) return false;
+        var node = this.last;
+        var other = that.last;
+        while (node != other) {
+            if (node.direction != other.direction || node.endsMove != other.endsMove) return false;
+            node = node.previous;
+            other = other.previous;
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(moves, smallMove);
+        var hash = 1;
+        for (var node = this.last; node != null; node = node.previous) {
+            hash = 31 * hash + Objects.hash(node.direction, node.endsMove);
+        }
+        return hash;
     }
 
     @Override
     public String toString() {
         return "MoveHistory{" +
-            "moves=" + moves +
-            ", smallMove=" + smallMove +
+            "moves=" + allMoves() +
+            ", smallMove=" + smallMove() +
             '}';
     }
+
+    /**
+     * Single direction of the history. Number of directions and finished moves up to this node are cached, so the
+     * history does not need to walk the list to answer these questions.
+     */
+    private static final class Node {
+        private final Direction direction;
+        private final boolean endsMove;
+        private final Node previous;
+        private final int size;
+        private final int moveCount;
+
+        private Node(final Direction direction, final boolean endsMove, final Node previous) {
+            this.direction = direction;
+            this.endsMove = endsMove;
+            this.previous = previous;
+            this.size = previous == null ? 1 : previous.size + 1;
+            final var previousMoveCount = previous == null ? 0 : previous.moveCount;
+            this.moveCount = endsMove ? previousMoveCount + 1 : previousMoveCount;
+        }
+    }
 }
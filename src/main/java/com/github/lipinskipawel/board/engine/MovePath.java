@@ -0,0 +1,57 @@
+package com.github.lipinskipawel.board.engine;
+
+/**
+ * This class describes directions executed from the beginning of the search as a node of the tree of directions. Every
+ * node keeps only its last direction and points to the node of the previous directions, so all paths found by the
+ * search share their common prefixes. Appending the direction creates a single node and does not copy the previous
+ * directions. The {@link Move} is created from the path only when it is needed.
+ */
+final class MovePath {
+    private static final MovePath EMPTY = new MovePath(null, 0, 0);
+    private final MovePath previous;
+    private final int code;
+    private final int length;
+
+    private MovePath(final MovePath previous, final int code, final int length) {
+        this.previous = previous;
+        this.code = code;
+        this.length = length;
+    }
+
+    /**
+     * @return path without any directions
+     */
+    static MovePath empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param direction to append
+     * @return path with all directions of this path followed by the given direction
+     */
+    MovePath append(final Direction direction) {
+        return new MovePath(this, Geometry.bit(direction), this.length + 1);
+    }
+
+    /**
+     * @return number of directions of this path
+     */
+    int length() {
+        return this.length;
+    }
+
+    /**
+     * The cost of this method is proportional to the length of this path.
+     *
+     * @return move with all directions of this path
+     */
+    Move toMove() {
+        final var codes = new int[this.length];
+        var node = this;
+        for (int i = this.length - 1; i >= 0; i--) {
+            codes[i] = node.code;
+            node = node.previous;
+        }
+        return new Move(codes, 0, this.length);
+    }
+}
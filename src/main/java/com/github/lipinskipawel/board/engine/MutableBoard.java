@@ -0,0 +1,393 @@
+package com.github.lipinskipawel.board.engine;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * This class is an API.
+ * This class is a mutable counterpart of the {@link Board}. It is designed for search algorithms which visit a lot of
+ * positions one after another. Instead of creating a new object for every executed direction, the state of this object
+ * is updated in place by the {@link #make(Direction)} and reverted by the {@link #unmake()} method. Both methods run
+ * in constant time and do not allocate memory.
+ * <p>
+ * Instances of this class can be created by {@link Boards#mutableBoard()} or converted from any {@link Board} by
+ * {@link Boards#mutableBoard(Board)}. The {@link #toBoard()} method converts this object back to the {@link Board}.
+ *
+ * <h2>Thread safety</h2>
+ * This class is NOT thread-safe.
+ *
+ * @param <T> type of the player
+ */
+public final class MutableBoard<T> {
+    private static final int DIRECTION_MASK = 0b0111;
+    private static final int PLAYER_CHANGED = 0b1000;
+    private final Board<T> origin;
+    private final long[] points;
+    private final T first;
+    private final T second;
+    private int ballPosition;
+    private boolean firstToMove;
+    /**
+     * Key of drawn moves and the ball position, see {@link ZobristKeys}.
+     */
+    private long pointsKey;
+    /**
+     * Every entry holds the bit of made direction (see {@link Geometry#bit(Direction)}) and the
+     * {@link #PLAYER_CHANGED} flag when that direction has finished the move of the player.
+     */
+    private int[] history;
+    private int madeDirections;
+
+    MutableBoard(final Board<T> origin) {
+        final var provider = origin.getPlayerProvider();
+        this.origin = origin;
+        this.first = provider.first();
+        this.second = provider.second();
+        this.ballPosition = origin.getBallAPI().getPosition();
+        if (origin instanceof BitBoard) {
+            final var bitBoard = (BitBoard<?>) origin;
+            this.points = bitBoard.packedPoints();
+            this.pointsKey = bitBoard.pointsKey();
+        } else if (origin instanceof ImmutableBoard) {
+            final var immutableBoard = (ImmutableBoard<?>) origin;
+            this.points = immutableBoard.packedPoints();
+            this.pointsKey = immutableBoard.pointsKey();
+        } else {
+            this.points = PackedPoints.fromTransformation(origin.transform());
+            this.pointsKey = ZobristKeys.of(this.points, this.ballPosition);
+        }
+        this.firstToMove = provider.current().equals(provider.first());
+        this.history = new int[64];
+        this.madeDirections = 0;
+    }
+
+    /**
+     * This method moves the ball in the given direction and updates the state of this object.
+     *
+     * @param direction to move the ball
+     * @return true if the direction was allowed and has been made, otherwise false
+     */
+    public boolean make(final Direction direction) {
+        if (!isMoveAllowed(direction)) {
+            return false;
+        }
+        final var newBallPosition = Geometry.neighbour(this.ballPosition, direction);
+        PackedPoints.makeUnavailable(this.points, this.ballPosition, direction);
+        PackedPoints.makeUnavailable(this.points, newBallPosition, direction.opposite());
+        this.pointsKey ^= ZobristKeys.edge(this.ballPosition, direction)
+            ^ ZobristKeys.ball(this.ballPosition)
+            ^ ZobristKeys.ball(newBallPosition);
+        this.ballPosition = newBallPosition;
+
+        var entry = Geometry.bit(direction);
+        if (PackedPoints.isOtherPlayerToMove(this.points, newBallPosition)) {
+            this.firstToMove = !this.firstToMove;
+            entry |= PLAYER_CHANGED;
+        }
+        if (this.madeDirections == this.history.length) {
+            this.history = Arrays.copyOf(this.history, this.history.length * 2);
+        }
+        this.history[this.madeDirections++] = entry;
+        return true;
+    }
+
+    /**
+     * This method reverts the last direction made by the {@link #make(Direction)} method. Directions that have been
+     * made on the {@link Board} before the conversion can not be reverted.
+     *
+     * @throws RuntimeException when there is no direction to revert
+     */
+    public void unmake() {
+        if (this.madeDirections == 0) {
+            throw new RuntimeException("There is no move to undo");
+        }
+        final var entry = this.history[--this.madeDirections];
+        final var direction = Geometry.DIRECTIONS[entry & DIRECTION_MASK];
+        final var previousBallPosition = Geometry.neighbour(this.ballPosition, direction.opposite());
+        PackedPoints.makeAvailable(this.points, this.ballPosition, direction.opposite());
+        PackedPoints.makeAvailable(this.points, previousBallPosition, direction);
+        this.pointsKey ^= ZobristKeys.edge(previousBallPosition, direction)
+            ^ ZobristKeys.ball(this.ballPosition)
+            ^ ZobristKeys.ball(previousBallPosition);
+        this.ballPosition = previousBallPosition;
+        if ((entry & PLAYER_CHANGED) != 0) {
+            this.firstToMove = !this.firstToMove;
+        }
+    }
+
+    /**
+     * This method finds all legal moves of the current player on the calling thread and passes each of them to the
+     * given action. Moves are found by the depth-first search which makes and unmakes directions on this object, so
+     * no board is created during the search. The state of this object is the same after this method returns.
+     * Moves are visited in the same order as they are returned by {@link Board#allLegalMoves()}.
+     *
+     * @param action to perform for every legal move
+     */
+    public void forEachLegalMove(final Consumer<? super Move> action) {
+        forEachLegalMoveWhile(move -> {
+            action.accept(move);
+            return true;
+        });
+    }
+
+    /**
+     * This method works as {@link #forEachLegalMove(Consumer)} but stops the search as soon as the given action returns
+     * false.
+     *
+     * @param action to perform for every legal move, returns false when the search should be stopped
+     * @return true if all legal moves have been visited, false if the search has been stopped by the action
+     */
+    public boolean forEachLegalMoveWhile(final Predicate<? super Move> action) {
+        final var start = this.madeDirections;
+        return visitLegalMovesWhile(() -> action.test(new Move(this.history, start, this.madeDirections)));
+    }
+
+    /**
+     * This method searches for the move after which the current player wins the game, which is the move that places
+     * the ball in the goal of the opponent. The search stops at the first such move, so usually only a part of legal
+     * moves is visited. The state of this object is the same after this method returns.
+     *
+     * @return the winning move or {@link Optional#empty()} when there is no such move or the game is already over
+     */
+    public Optional<Move> findWinningMove() {
+        if (isGameOver()) {
+            return Optional.empty();
+        }
+        final var start = this.madeDirections;
+        final var firstMoves = this.firstToMove;
+        final var winningMove = new Move[1];
+        visitLegalMovesWhile(() -> {
+            if (isWinningFor(firstMoves)) {
+                winningMove[0] = new Move(this.history, start, this.madeDirections);
+                return false;
+            }
+            return true;
+        });
+        return Optional.ofNullable(winningMove[0]);
+    }
+
+    /**
+     * This method checks whether every legal move of the current player loses the game, which is the case when
+     * every move places the ball in the own goal or in the point without any available direction. The search stops
+     * at the first move which does not lose. The state of this object is the same after this method returns.
+     *
+     * @return true if every legal move loses the game, false when at least one does not or the game is already over
+     */
+    public boolean isEveryMoveLosing() {
+        if (isGameOver()) {
+            return false;
+        }
+        final var firstMoves = this.firstToMove;
+        return visitLegalMovesWhile(() -> isGameOver() && !isWinningFor(firstMoves));
+    }
+
+    /**
+     * @param firstMoves true when the move has been made by the first player
+     * @return true when the ball is in the goal of the opponent of the player who has made the move
+     */
+    private boolean isWinningFor(final boolean firstMoves) {
+        return firstMoves ? Geometry.isTopGoal(this.ballPosition) : Geometry.isBottomGoal(this.ballPosition);
+    }
+
+    /**
+     * The action is called for every legal move while that move is made on this object.
+     */
+    private boolean visitLegalMovesWhile(final BooleanSupplier action) {
+        final var start = this.madeDirections;
+        try {
+            return visitLegalMoves(action);
+        } finally {
+            while (this.madeDirections > start) {
+                unmake();
+            }
+        }
+    }
+
+    /**
+     * Directions which finish the move are visited first, in the order of {@link Geometry#DIRECTIONS}. Then the
+     * search continues from the remaining directions in the reversed order.
+     */
+    private boolean visitLegalMoves(final BooleanSupplier action) {
+        final var allowed = PackedPoints.mask(this.points, this.ballPosition);
+        var notFinished = 0;
+        for (int i = 0; i < Geometry.DIRECTIONS.length; i++) {
+            if ((allowed & (1 << i)) == 0) {
+                continue;
+            }
+            make(Geometry.DIRECTIONS[i]);
+            final var finished = (this.history[this.madeDirections - 1] & PLAYER_CHANGED) != 0;
+            final var proceed = !finished || action.getAsBoolean();
+            unmake();
+            if (!proceed) {
+                return false;
+            }
+            if (!finished) {
+                notFinished |= 1 << i;
+            }
+        }
+        for (int i = Geometry.DIRECTIONS.length - 1; i >= 0; i--) {
+            if ((notFinished & (1 << i)) == 0) {
+                continue;
+            }
+            make(Geometry.DIRECTIONS[i]);
+            final var proceed = visitLegalMoves(action);
+            unmake();
+            if (!proceed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * This method counts legal moves of the current player without creating them. It visits the same moves as
+     * {@link #forEachLegalMove(Consumer)}.
+     *
+     * @return number of legal moves
+     */
+    public long countLegalMoves() {
+        return perft(1);
+    }
+
+    /**
+     * This method counts positions reached by all sequences of the given number of legal moves, where every move is a
+     * complete move of a player. Positions are counted once for every sequence which leads to them. The game does not
+     * continue after a goal or when the ball is stuck, so such positions are counted only at the last move. No
+     * {@link Move} or {@link Board} is created during counting. The state of this object is the same after this method
+     * returns.
+     *
+     * @param depth number of moves, 0 counts only the current position
+     * @return number of reached positions
+     * @throws IllegalArgumentException when depth is negative
+     */
+    public long perft(final int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("Depth can not be negative, was: " + depth);
+        }
+        return depth == 0 ? 1 : countMoves(depth);
+    }
+
+    private long countMoves(final int depth) {
+        final var allowed = PackedPoints.mask(this.points, this.ballPosition);
+        var nodes = 0L;
+        for (int i = 0; i < Geometry.DIRECTIONS.length; i++) {
+            if ((allowed & (1 << i)) == 0) {
+                continue;
+            }
+            make(Geometry.DIRECTIONS[i]);
+            if ((this.history[this.madeDirections - 1] & PLAYER_CHANGED) == 0) {
+                nodes += countMoves(depth);
+            } else {
+                nodes += depth == 1 ? 1 : countMoves(depth - 1);
+            }
+            unmake();
+        }
+        return nodes;
+    }
+
+    /**
+     * @return true if there is at least one direction that can be reverted by {@link #unmake()}
+     */
+    public boolean canUnmake() {
+        return this.madeDirections > 0;
+    }
+
+    /**
+     * @param destination possible direction to move ball
+     * @return true or false whenever the move is allowed
+     * @see Board#isMoveAllowed(Direction)
+     */
+    public boolean isMoveAllowed(final Direction destination) {
+        return PackedPoints.isAvailable(this.points, this.ballPosition, destination);
+    }
+
+    /**
+     * @return position where the ball is
+     */
+    public int getBallPosition() {
+        return this.ballPosition;
+    }
+
+    /**
+     * @return the player which is the current player
+     * @see Board#getPlayer()
+     */
+    public T getPlayer() {
+        return this.firstToMove ? this.first : this.second;
+    }
+
+    /**
+     * @return true or false whenever ball in the one of the goal area
+     * @see Board#isGoal()
+     */
+    public boolean isGoal() {
+        return Geometry.isGoal(this.ballPosition);
+    }
+
+    /**
+     * @return true if any of player score a goal or there are no possible moves to make. Otherwise false.
+     * @see Board#isGameOver()
+     */
+    public boolean isGameOver() {
+        return isGoal() || PackedPoints.mask(this.points, this.ballPosition) == 0;
+    }
+
+    /**
+     * @return the winner of the game or {@link Optional#empty()} if the game is not decided yet
+     * @see Board#takeTheWinner()
+     */
+    public Optional<T> takeTheWinner() {
+        if (!isGameOver())
+            return Optional.empty();
+        if (Geometry.isTopGoal(this.ballPosition)) {
+            return Optional.of(this.first);
+        }
+        if (!isGoal()) {
+            return Optional.of(getPlayer());
+        }
+        return Optional.of(this.second);
+    }
+
+    /**
+     * @return key of the current position, the same as the key of the {@link Board} in the same position
+     * @see Board#positionKey()
+     */
+    public long positionKey() {
+        var key = this.pointsKey;
+        if (!this.firstToMove) {
+            key ^= ZobristKeys.SECOND_PLAYER_TO_MOVE;
+        }
+        if (!PackedPoints.isOtherPlayerToMove(this.points, this.ballPosition)) {
+            key ^= ZobristKeys.SMALL_MOVE;
+        }
+        return key;
+    }
+
+    /**
+     * This method converts this object into the immutable {@link Board}. Returned board is the board from which this
+     * object has been created with all directions made by {@link #make(Direction)} executed on it. The cost of this
+     * method is proportional to the number of directions made on this object.
+     *
+     * @return board with the same state as this object
+     */
+    public Board<T> toBoard() {
+        var board = this.origin;
+        for (int i = 0; i < this.madeDirections; i++) {
+            board = board.executeMove(Geometry.DIRECTIONS[this.history[i] & DIRECTION_MASK]);
+        }
+        return board;
+    }
+
+    @Override
+    public String toString() {
+        return "MutableBoard{" +
+            "points=" + Arrays.toString(points) +
+            ", ballPosition=" + ballPosition +
+            ", player=" + getPlayer() +
+            ", madeDirections=" + madeDirections +
+            '}';
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.lipinskipawel.board.engine;
+
+/**
+ * This class describes packed representation of all points on the board. Every point occupies exactly one byte of the
+ * {@code long[]} array. Bit {@code i} of that byte is set when the direction
+ * {@link Geometry#DIRECTIONS Geometry.DIRECTIONS[i]} is still available from that point. Order of the bits is the same as
+ * the order used by {@link Point#getAllDirections()}, which keeps the contract of {@link Transformation} the same for
+ * every representation.
+ */
+final class PackedPoints {
+    static final int WORDS = (Geometry.NUMBER_OF_POINTS + 7) / 8;
+    private static final long[] INITIAL_POINTS = computeInitialPoints();
+
+    private PackedPoints() {
+    }
+
+    /**
+     * @return new copy of the packed points representing a board without any moves
+     */
+    static long[] initialPoints() {
+        return INITIAL_POINTS.clone();
+    }
+
+    static int mask(final long[] points, final int position) {
+        return (int) (points[position >>> 3] >>> ((position & 7) << 3)) & 0xFF;
+    }
+
+    static boolean isAvailable(final long[] points, final int position, final Direction direction) {
+        return (mask(points, position) & (1 << Geometry.bit(direction))) != 0;
+    }
+
+    /**
+     * Directions which are not available at the beginning of the game, like the ones leading from corners, stay
+     * unavailable.
+     */
+    static void makeAvailable(final long[] points, final int position, final Direction direction) {
+        final long initial = Geometry.initialMask(position) & (1 << Geometry.bit(direction));
+        points[position >>> 3] |= initial << ((position & 7) << 3);
+    }
+
+    static void makeUnavailable(final long[] points, final int position, final Direction direction) {
+        points[position >>> 3] &= ~(1L << (((position & 7) << 3) + Geometry.bit(direction)));
+    }
+
+    /**
+     * This method is an equivalent of {@link LogicalPoints#isOtherPlayerToMove()} for the packed points.
+     *
+     * @param points       packed points
+     * @param ballPosition position of the ball
+     * @return true when the ball is placed in such point that the move of current player is done
+     */
+    static boolean isOtherPlayerToMove(final long[] points, final int ballPosition) {
+        final var allowed = Integer.bitCount(mask(points, ballPosition));
+        return Geometry.isGoal(ballPosition) || allowed == 7 || allowed == 8 || allowed == 0;
+    }
+
+    /**
+     * Creates a {@link Point} object that represents given position.
+     *
+     * @param points   packed points
+     * @param position of the point
+     * @return point object
+     */
+    static Point toPoint(final long[] points, final int position) {
+        return new Point(position, mask(points, position));
+    }
+
+    /**
+     * This method is the reverse operation of {@link Transformation#transform()}.
+     *
+     * @param transformation result of {@link Transformation#transform()}
+     * @return packed points
+     */
+    static long[] fromTransformation(final int[] transformation) {
+        final var packed = new long[WORDS];
+        for (int position = 0; position < Geometry.NUMBER_OF_POINTS; position++) {
+            for (int i = 0; i < 8; i++) {
+                if (transformation[position * 8 + i] == 1) {
+                    packed[position >>> 3] |= 1L << (((position & 7) << 3) + i);
+                }
+            }
+        }
+        return packed;
+    }
+
+    private static long[] computeInitialPoints() {
+        final var packed = new long[WORDS];
+        for (int position = 0; position < Geometry.NUMBER_OF_POINTS; position++) {
+            packed[position >>> 3] |= (long) Geometry.initialMask(position) << ((position & 7) << 3);
+        }
+        return packed;
+    }
+}
@@ -1,38 +1,39 @@
 package com.github.lipinskipawel.board.engine;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
-
-import static java.util.stream.Collectors.toMap;
-import static java.util.stream.Collectors.toUnmodifiableList;
 
 /**
  * This class represents point on the board.
+ * <p>
+ * Availability of all directions is kept in the single byte. Bit {@code i} of that byte is set when the direction
+ * {@link Geometry#DIRECTIONS Geometry.DIRECTIONS[i]} is available. Lists of allowed and unavailable directions
+ * are precomputed for every possible byte, so asking for them does not allocate.
  */
 final public class Point {
+    private static final int ALL_DIRECTIONS = 0xFF;
+    private static final List<List<Direction>> DIRECTIONS_BY_MASK = directionsByMask();
+    private static final List<List<Boolean>> FLAGS_BY_MASK = flagsByMask();
     private final int position;
-    private final Map<Direction, Boolean> availableDirections;
+    private byte availableDirections;
 
     Point(int position) {
-        this.position = position;
-        this.availableDirections = initAvailableDirections();
+        this(position, ALL_DIRECTIONS);
     }
 
     Point(Point point) {
         this.position = point.position;
-        this.availableDirections = point.availableDirections.entrySet()
-            .stream()
-            .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+        this.availableDirections = point.availableDirections;
     }
 
-    private Point(int position, Map<Direction, Boolean> availableDirections) {
+    /**
+     * @param position            of the point
+     * @param availableDirections byte with bits set for available directions
+     */
+    Point(int position, int availableDirections) {
         this.position = position;
-        this.availableDirections = availableDirections.entrySet()
-            .stream()
-            .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+        this.availableDirections = (byte) availableDirections;
     }
 
     /**
@@ -40,22 +41,20 @@ final public class Point {
      * @return Direction to reach this #destinationPoint
      */
     public Direction kickBallTo(final int destinationPoint) {
-        final var findThatNumber = destinationPoint - position;
-        return availableDirections.entrySet()
-            .stream()
-            .filter(entry -> entry.getValue().booleanValue() == Boolean.TRUE)
-            .map(Map.Entry::getKey)
-            .filter(direction -> direction.changeToInt() == findThatNumber)
-            .findFirst()
-            .orElseThrow(() -> new RuntimeException("Can't make a move in this direction"));
+        for (var direction : DIRECTIONS_BY_MASK.get(mask())) {
+            if (Geometry.neighbour(this.position, direction) == destinationPoint) {
+                return direction;
+            }
+        }
+        throw new RuntimeException("Can't make a move in this direction");
     }
 
     boolean isOnTop() {
-        return this.position == 3 || this.position == 4 || this.position == 5;
+        return Geometry.isTopGoal(this.position);
     }
 
     boolean isOnBottom() {
-        return this.position == 111 || this.position == 112 || this.position == 113;
+        return Geometry.isBottomGoal(this.position);
     }
 
     int getPosition() {
@@ -63,74 +62,74 @@ final public class Point {
     }
 
     boolean isAvailable(final Direction destination) {
-        return this.availableDirections.get(destination);
+        return (mask() & (1 << Geometry.bit(destination))) != 0;
     }
 
     void setAvailableDirections(final Direction directions) {
-        this.availableDirections.put(directions, Boolean.TRUE);
+        this.availableDirections |= (byte) (1 << Geometry.bit(directions));
     }
 
     List<Direction> getAllowedDirection() {
-        return this.availableDirections
-            .entrySet()
-            .stream()
-            .filter(entry -> entry.getValue().booleanValue() == Boolean.TRUE)
-            .map(Map.Entry::getKey)
-            .collect(toUnmodifiableList());
+        return DIRECTIONS_BY_MASK.get(mask());
     }
 
     List<Direction> getUnavailableDirection() {
-        return this.availableDirections
-            .entrySet()
-            .stream()
-            .filter(entry -> entry.getValue().booleanValue() == Boolean.FALSE)
-            .map(Map.Entry::getKey)
-            .collect(toUnmodifiableList());
+        return DIRECTIONS_BY_MASK.get(~mask() & ALL_DIRECTIONS);
+    }
+
+    /**
+     * @return number of allowed directions
+     */
+    int countAllowedDirections() {
+        return Integer.bitCount(mask());
     }
 
     List<Boolean> getAllDirections() {
-        return List.of(
-            this.availableDirections.get(Direction.N),
-            this.availableDirections.get(Direction.NE),
-            this.availableDirections.get(Direction.E),
-            this.availableDirections.get(Direction.SE),
-            this.availableDirections.get(Direction.S),
-            this.availableDirections.get(Direction.SW),
-            this.availableDirections.get(Direction.W),
-            this.availableDirections.get(Direction.NW)
-        );
+        return FLAGS_BY_MASK.get(mask());
     }
 
     /**
-     * @param direction
-     * @return
+     * @param direction which will not be available in the returned point
+     * @return new point with the given direction not available
      */
     Point notAvailableDirection(Direction direction) {
-        int position = this.position;
-        Map<Direction, Boolean> collect = this.availableDirections.entrySet()
-            .stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-        collect.put(direction, Boolean.FALSE);
-        return new Point(position, collect);
+        return new Point(this.position, mask() & ~(1 << Geometry.bit(direction)));
     }
 
     void notAvailableDirections(Direction... directions) {
         for (Direction direction : directions) {
-            this.availableDirections.put(direction, false);
+            this.availableDirections &= (byte) ~(1 << Geometry.bit(direction));
         }
     }
 
-    private Map<Direction, Boolean> initAvailableDirections() {
-        final Map<Direction, Boolean> res = new HashMap<>();
-        res.put(Direction.N, Boolean.TRUE);
-        res.put(Direction.NE, Boolean.TRUE);
-        res.put(Direction.E, Boolean.TRUE);
-        res.put(Direction.SE, Boolean.TRUE);
-        res.put(Direction.S, Boolean.TRUE);
-        res.put(Direction.SW, Boolean.TRUE);
-        res.put(Direction.W, Boolean.TRUE);
-        res.put(Direction.NW, Boolean.TRUE);
-        return res;
+    private int mask() {
+        return this.availableDirections & ALL_DIRECTIONS;
+    }
+
+    private static List<List<Direction>> directionsByMask() {
+        final var result = new ArrayList<List<Direction>>(ALL_DIRECTIONS + 1);
+        for (int mask = 0; mask <= ALL_DIRECTIONS; mask++) {
+            final var directions = new ArrayList<Direction>();
+            for (int i = 0; i < Geometry.DIRECTIONS.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    directions.add(Geometry.DIRECTIONS[i]);
+                }
+            }
+            result.add(List.copyOf(directions));
+        }
+        return List.copyOf(result);
+    }
+
+    private static List<List<Boolean>> flagsByMask() {
+        final var result = new ArrayList<List<Boolean>>(ALL_DIRECTIONS + 1);
+        for (int mask = 0; mask <= ALL_DIRECTIONS; mask++) {
+            final var flags = new ArrayList<Boolean>();
+            for (int i = 0; i < Geometry.DIRECTIONS.length; i++) {
+                flags.add((mask & (1 << i)) != 0);
+            }
+            result.add(List.copyOf(flags));
+        }
+        return List.copyOf(result);
     }
 
     @Override
@@ -138,7 +137,7 @@ final public class Point {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Point point = (Point) o;
-        return position == point.position && Objects.equals(availableDirections, point.availableDirections);
+        return position == point.position && availableDirections == point.availableDirections;
     }
 
     @Override
@@ -150,7 +149,7 @@ final public class Point {
     public String toString() {
         return "Point{" +
             "position=" + position +
-            ", availableDirections=" + availableDirections +
+            ", availableDirections=" + getAllowedDirection() +
             '}';
     }
 }
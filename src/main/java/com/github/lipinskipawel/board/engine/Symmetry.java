@@ -0,0 +1,156 @@
+package com.github.lipinskipawel.board.engine;
+
+import java.util.ArrayList;
+
+import static com.github.lipinskipawel.board.engine.Direction.E;
+import static com.github.lipinskipawel.board.engine.Direction.NE;
+import static com.github.lipinskipawel.board.engine.Direction.NW;
+import static com.github.lipinskipawel.board.engine.Direction.SE;
+import static com.github.lipinskipawel.board.engine.Direction.SW;
+import static com.github.lipinskipawel.board.engine.Direction.W;
+
+/**
+ * This enum is an API.
+ * This enum describes symmetries of the pitch. Every symmetry maps the position to the equivalent one, so the result of
+ * the game from the equivalent position is the same for the equivalent player.
+ * <ul>
+ *     <li>{@link #IDENTITY} does not change anything</li>
+ *     <li>{@link #MIRROR} reflects the pitch from left to right. Players are not changed</li>
+ *     <li>{@link #ROTATION} rotates the pitch by 180 degrees. Goals are exchanged, so the roles of players are
+ *     exchanged as well. The other player is to move in the rotated position</li>
+ *     <li>{@link #MIRROR_ROTATION} is {@link #MIRROR} followed by {@link #ROTATION}</li>
+ * </ul>
+ * Every symmetry is its own inverse. Applying the same symmetry twice gives the original direction, move or board.
+ * Canonical form of the board can be found by {@link #canonical(Board)}, which helps to share caches, transposition
+ * tables and opening books between equivalent positions.
+ */
+public enum Symmetry {
+    IDENTITY(false, false),
+    MIRROR(true, false),
+    ROTATION(false, true),
+    MIRROR_ROTATION(true, true);
+
+    private final boolean mirror;
+    private final boolean rotation;
+
+    Symmetry(final boolean mirror, final boolean rotation) {
+        this.mirror = mirror;
+        this.rotation = rotation;
+    }
+
+    /**
+     * @param direction to map
+     * @return direction in the transformed position
+     */
+    public Direction apply(final Direction direction) {
+        final var mirrored = this.mirror ? mirror(direction) : direction;
+        return this.rotation ? mirrored.opposite() : mirrored;
+    }
+
+    /**
+     * @param move to map
+     * @return move in the transformed position
+     */
+    public Move apply(final Move move) {
+        if (this == IDENTITY) {
+            return move;
+        }
+        final var directions = new ArrayList<Direction>(move.length());
+        move.forEachDirection(direction -> directions.add(apply(direction)));
+        return new Move(directions);
+    }
+
+    /**
+     * This method creates the board which is the transformed version of the given board. Board of the same
+     * implementation is created by executing all transformed directions. The cost of this method is proportional to
+     * the number of directions made on the given board.
+     *
+     * @param board to transform
+     * @param <T>   type of the player
+     * @return transformed board
+     */
+    public <T> Board<T> apply(final Board<T> board) {
+        if (this == IDENTITY) {
+            return board;
+        }
+        final var directions = board.allMoves();
+        var transformed = board;
+        for (int i = 0; i < directions.size(); i++) {
+            transformed = transformed.undo();
+        }
+        var finishedDirections = 0;
+        for (var move : board.moveHistory()) {
+            transformed = transformed.executeMove(apply(move));
+            finishedDirections += move.length();
+        }
+        final var playerToMove = playerToMove(board);
+        if (!transformed.getPlayer().equals(playerToMove)) {
+            transformed = transformed.nextPlayerToMove(playerToMove);
+        }
+        for (var direction : directions.subList(finishedDirections, directions.size())) {
+            transformed = transformed.executeMove(apply(direction));
+        }
+        return transformed;
+    }
+
+    /**
+     * This method finds the canonical form of the given board. All equivalent positions have the same canonical
+     * board. The canonical board is the transformed board with the smallest {@link Board#positionKey()}, compared as
+     * unsigned numbers.
+     *
+     * @param board to transform
+     * @param <T>   type of the player
+     * @return canonical board together with the symmetry that transforms the given board into it
+     */
+    public static <T> CanonicalBoard<T> canonical(final Board<T> board) {
+        var best = new CanonicalBoard<>(board, IDENTITY);
+        for (var symmetry : values()) {
+            if (symmetry == IDENTITY) {
+                continue;
+            }
+            final var transformed = symmetry.apply(board);
+            if (Long.compareUnsigned(transformed.positionKey(), best.board().positionKey()) < 0) {
+                best = new CanonicalBoard<>(transformed, symmetry);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @param position of the point
+     * @return position of the point in the transformed pitch
+     */
+    int apply(final int position) {
+        final var mirrored = this.mirror
+            ? (position / Geometry.COLUMNS) * Geometry.COLUMNS + (Geometry.COLUMNS - 1 - position % Geometry.COLUMNS)
+            : position;
+        return this.rotation ? Geometry.NUMBER_OF_POINTS - 1 - mirrored : mirrored;
+    }
+
+    private <T> T playerToMove(final Board<T> board) {
+        final var provider = board.getPlayerProvider();
+        if (!this.rotation) {
+            return provider.current();
+        }
+        return provider.current().equals(provider.first()) ? provider.second() : provider.first();
+    }
+
+    private static Direction mirror(final Direction direction) {
+        switch (direction) {
+            case E:
+                return W;
+            case W:
+                return E;
+            case NE:
+                return NW;
+            case NW:
+                return NE;
+            case SE:
+                return SW;
+            case SW:
+                return SE;
+            default:
+                return direction;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.lipinskipawel.board.engine;
 
+import java.nio.FloatBuffer;
+
 /**
  * The intention of this interface is transform board into different type.
  */
@@ -22,4 +24,67 @@ interface Transformation {
     int[] transform();
 
     double[] nonBinaryTransformation();
+
+    /**
+     * Writes the result of {@link #transform()} into the given array without creating any intermediate objects.
+     * Values are written in the same order as returned by {@link #transform()}.
+     *
+     * @param destination array to write into
+     * @param offset      index of the destination at which the first value is written
+     * @return number of written values, which is always {@link Board#TRANSFORMATION_LENGTH}
+     * @throws IndexOutOfBoundsException when destination has not enough space after the offset
+     */
+    int transform(int[] destination, int offset);
+
+    /**
+     * The same as {@link #transform(int[], int)} but values are written as floats.
+     *
+     * @param destination array to write into
+     * @param offset      index of the destination at which the first value is written
+     * @return number of written values, which is always {@link Board#TRANSFORMATION_LENGTH}
+     * @throws IndexOutOfBoundsException when destination has not enough space after the offset
+     */
+    int transform(float[] destination, int offset);
+
+    /**
+     * The same as {@link #transform(int[], int)} but values are written as doubles.
+     *
+     * @param destination array to write into
+     * @param offset      index of the destination at which the first value is written
+     * @return number of written values, which is always {@link Board#TRANSFORMATION_LENGTH}
+     * @throws IndexOutOfBoundsException when destination has not enough space after the offset
+     */
+    int transform(double[] destination, int offset);
+
+    /**
+     * The same as {@link #transform(int[], int)} but values are written into the buffer by absolute puts. Position of
+     * the buffer is not changed. {@link java.nio.ByteBuffer} can be used through {@link java.nio.ByteBuffer#asFloatBuffer()}.
+     *
+     * @param destination buffer to write into
+     * @param index       index of the buffer at which the first value is written
+     * @return number of written values, which is always {@link Board#TRANSFORMATION_LENGTH}
+     * @throws IndexOutOfBoundsException when destination has not enough space after the index
+     */
+    int transform(FloatBuffer destination, int index);
+
+    /**
+     * Writes the result of {@link #nonBinaryTransformation()} into the given array without creating any intermediate
+     * objects.
+     *
+     * @param destination array to write into
+     * @param offset      index of the destination at which the first value is written
+     * @return number of written values, which is always {@link Board#TRANSFORMATION_LENGTH}
+     * @throws IndexOutOfBoundsException when destination has not enough space after the offset
+     */
+    int nonBinaryTransformation(double[] destination, int offset);
+
+    /**
+     * The same as {@link #nonBinaryTransformation(double[], int)} but values are written as floats.
+     *
+     * @param destination array to write into
+     * @param offset      index of the destination at which the first value is written
+     * @return number of written values, which is always {@link Board#TRANSFORMATION_LENGTH}
+     * @throws IndexOutOfBoundsException when destination has not enough space after the offset
+     */
+    int nonBinaryTransformation(float[] destination, int offset);
 }
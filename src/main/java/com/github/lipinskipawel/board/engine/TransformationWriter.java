@@ -0,0 +1,101 @@
+package com.github.lipinskipawel.board.engine;
+
+import java.nio.FloatBuffer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * This class writes the state of all points into arrays and buffers supplied by the caller. The order of values is
+ * the one described by {@link Transformation}. Values of every point depend only on the byte of its available
+ * directions, so they are precomputed for every possible byte and copied as a whole.
+ */
+final class TransformationWriter {
+    private static final int DIRECTIONS = 8;
+    private static final int MASKS = 256;
+    private static final double[] NON_BINARY = {0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8};
+    private static final double NOT_AVAILABLE = 0.9;
+    private static final int[] BINARY_INTS = new int[MASKS * DIRECTIONS];
+    private static final float[] BINARY_FLOATS = new float[MASKS * DIRECTIONS];
+    private static final double[] BINARY_DOUBLES = new double[MASKS * DIRECTIONS];
+    private static final float[] NON_BINARY_FLOATS = new float[MASKS * DIRECTIONS];
+    private static final double[] NON_BINARY_DOUBLES = new double[MASKS * DIRECTIONS];
+
+    static {
+        for (int mask = 0; mask < MASKS; mask++) {
+            for (int i = 0; i < DIRECTIONS; i++) {
+                final var available = ((mask >>> i) & 1) == 1;
+                final var index = mask * DIRECTIONS + i;
+                BINARY_INTS[index] = available ? 1 : 0;
+                BINARY_FLOATS[index] = available ? 1 : 0;
+                BINARY_DOUBLES[index] = available ? 1 : 0;
+                NON_BINARY_DOUBLES[index] = available ? NON_BINARY[i] : NOT_AVAILABLE;
+                NON_BINARY_FLOATS[index] = (float) NON_BINARY_DOUBLES[index];
+            }
+        }
+    }
+
+    private TransformationWriter() {
+    }
+
+    static int transform(final IntUnaryOperator masks, final int[] destination, final int offset) {
+        checkBounds(destination.length, offset);
+        for (int position = 0; position < Geometry.NUMBER_OF_POINTS; position++) {
+            final var mask = masks.applyAsInt(position);
+            System.arraycopy(BINARY_INTS, mask * DIRECTIONS, destination, offset + position * DIRECTIONS, DIRECTIONS);
+        }
+        return Board.TRANSFORMATION_LENGTH;
+    }
+
+    static int transform(final IntUnaryOperator masks, final float[] destination, final int offset) {
+        checkBounds(destination.length, offset);
+        for (int position = 0; position < Geometry.NUMBER_OF_POINTS; position++) {
+            final var mask = masks.applyAsInt(position);
+            System.arraycopy(BINARY_FLOATS, mask * DIRECTIONS, destination, offset + position * DIRECTIONS, DIRECTIONS);
+        }
+        return Board.TRANSFORMATION_LENGTH;
+    }
+
+    static int transform(final IntUnaryOperator masks, final double[] destination, final int offset) {
+        checkBounds(destination.length, offset);
+        for (int position = 0; position < Geometry.NUMBER_OF_POINTS; position++) {
+            final var mask = masks.applyAsInt(position);
+            System.arraycopy(BINARY_DOUBLES, mask * DIRECTIONS, destination, offset + position * DIRECTIONS, DIRECTIONS);
+        }
+        return Board.TRANSFORMATION_LENGTH;
+    }
+
+    static int transform(final IntUnaryOperator masks, final FloatBuffer destination, final int index) {
+        checkBounds(destination.limit(), index);
+        for (int position = 0; position < Geometry.NUMBER_OF_POINTS; position++) {
+            final var mask = masks.applyAsInt(position);
+            for (int i = 0; i < DIRECTIONS; i++) {
+                destination.put(index + position * DIRECTIONS + i, BINARY_FLOATS[mask * DIRECTIONS + i]);
+            }
+        }
+        return Board.TRANSFORMATION_LENGTH;
+    }
+
+    static int nonBinaryTransformation(final IntUnaryOperator masks, final double[] destination, final int offset) {
+        checkBounds(destination.length, offset);
+        for (int position = 0; position < Geometry.NUMBER_OF_POINTS; position++) {
+            final var mask = masks.applyAsInt(position);
+            System.arraycopy(NON_BINARY_DOUBLES, mask * DIRECTIONS, destination, offset + position * DIRECTIONS, DIRECTIONS);
+        }
+        return Board.TRANSFORMATION_LENGTH;
+    }
+
+    static int nonBinaryTransformation(final IntUnaryOperator masks, final float[] destination, final int offset) {
+        checkBounds(destination.length, offset);
+        for (int position = 0; position < Geometry.NUMBER_OF_POINTS; position++) {
+            final var mask = masks.applyAsInt(position);
+            System.arraycopy(NON_BINARY_FLOATS, mask * DIRECTIONS, destination, offset + position * DIRECTIONS, DIRECTIONS);
+        }
+        return Board.TRANSFORMATION_LENGTH;
+    }
+
+    private static void checkBounds(final int length, final int offset) {
+        if (offset < 0 || length - offset < Board.TRANSFORMATION_LENGTH) {
+            throw new IndexOutOfBoundsException("Can not write " + Board.TRANSFORMATION_LENGTH +
+                " values at offset " + offset + " into destination of length " + length);
+        }
+    }
+}
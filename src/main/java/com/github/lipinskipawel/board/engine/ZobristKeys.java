@@ -0,0 +1,86 @@
+package com.github.lipinskipawel.board.engine;
+
+import java.util.SplittableRandom;
+
+/**
+ * This class holds random numbers used to compute {@link Board#positionKey()} by the Zobrist hashing. Keys are
+ * generated from the constant seed, so the same position has the same key in every JVM.
+ * <p>
+ * Every drawn edge between two points contributes two keys, one for each half of the edge. Thanks to that drawing the
+ * edge from any of its ends changes the key in the same way, see {@link #edge(int, Direction)}.
+ */
+final class ZobristKeys {
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+    private static final long[] HALF_EDGES = new long[Geometry.NUMBER_OF_POINTS * 8];
+    private static final long[] BALL = new long[Geometry.NUMBER_OF_POINTS];
+    static final long SECOND_PLAYER_TO_MOVE;
+    static final long SMALL_MOVE;
+
+    static {
+        final var random = new SplittableRandom(SEED);
+        for (int i = 0; i < HALF_EDGES.length; i++) {
+            HALF_EDGES[i] = random.nextLong();
+        }
+        for (int i = 0; i < BALL.length; i++) {
+            BALL[i] = random.nextLong();
+        }
+        SECOND_PLAYER_TO_MOVE = random.nextLong();
+        SMALL_MOVE = random.nextLong();
+    }
+
+    private ZobristKeys() {
+    }
+
+    /**
+     * @param position  of the one end of the edge
+     * @param direction in which the edge goes from the position
+     * @return key of the edge
+     */
+    static long edge(final int position, final Direction direction) {
+        final var neighbour = Geometry.neighbour(position, direction);
+        return HALF_EDGES[position * 8 + Geometry.bit(direction)]
+            ^ HALF_EDGES[neighbour * 8 + Geometry.bit(direction.opposite())];
+    }
+
+    /**
+     * @param position of the ball
+     * @return key of the ball placed at the given position
+     */
+    static long ball(final int position) {
+        return BALL[position];
+    }
+
+    /**
+     * @return key of the drawn edges and the ball of the board without any moves
+     */
+    static long initialKey() {
+        return ball(Geometry.STARTING_BALL_POSITION);
+    }
+
+    /**
+     * Computes the key of drawn edges and the ball position from scratch. Edge is treated as drawn when any of its
+     * halves has been available at the beginning of the game and it is not available anymore. Some edges next to the
+     * goals are available only from one of their ends.
+     *
+     * @param points       packed points
+     * @param ballPosition position of the ball
+     * @return key of the position
+     */
+    static long of(final long[] points, final int ballPosition) {
+        final var initial = PackedPoints.initialPoints();
+        var key = ball(ballPosition);
+        for (int position = 0; position < Geometry.NUMBER_OF_POINTS; position++) {
+            final var drawn = PackedPoints.mask(initial, position) & ~PackedPoints.mask(points, position);
+            for (int bit = 0; bit < 4; bit++) {
+                final var direction = Geometry.DIRECTIONS[bit];
+                final var neighbour = Geometry.neighbour(position, direction);
+                final var drawnFromNeighbour = neighbour != Geometry.NO_NEIGHBOUR
+                    && (PackedPoints.mask(initial, neighbour) & ~PackedPoints.mask(points, neighbour) & (1 << (bit + 4))) != 0;
+                if ((drawn & (1 << bit)) != 0 || drawnFromNeighbour) {
+                    key ^= edge(position, direction);
+                }
+            }
+        }
+        return key;
+    }
+}
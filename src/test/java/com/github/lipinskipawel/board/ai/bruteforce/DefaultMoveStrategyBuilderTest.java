@@ -0,0 +1,57 @@
+package com.github.lipinskipawel.board.ai.bruteforce;
+
+import com.github.lipinskipawel.board.ai.MoveStrategy;
+import com.github.lipinskipawel.board.engine.Boards;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static com.github.lipinskipawel.board.engine.Direction.E;
+import static com.github.lipinskipawel.board.engine.Direction.N;
+import static com.github.lipinskipawel.board.engine.Direction.S;
+import static com.github.lipinskipawel.board.engine.Direction.W;
+
+@DisplayName("API -- DefaultMoveStrategyBuilder")
+class DefaultMoveStrategyBuilderTest {
+    private static final Duration TIMEOUT = Duration.ofMillis(200);
+
+    /**
+     * Time allowed after the timeout to stop the search and return the move. It is large enough for a loaded machine
+     * and still catches a search which runs until the given depth is reached.
+     */
+    private static final Duration TOLERANCE = Duration.ofSeconds(1);
+
+    @Test
+    @DisplayName("every strategy should return legal move within the timeout given in milliseconds")
+    void everyStrategyShouldReturnMoveWithinTimeout() {
+        final var strategies = Map.of(
+            "minimax", MoveStrategy.defaultMoveStrategyBuilder(),
+            "principal variation search", MoveStrategy.defaultMoveStrategyBuilder().withPrincipalVariationSearch(),
+            "4 threads", MoveStrategy.defaultMoveStrategyBuilder().withThreads(4)
+        );
+        final var semiComplicatedBoard = Boards.immutableBoard()
+            .executeMove(N)
+            .executeMove(E)
+            .executeMove(S)
+            .executeMove(S)
+            .executeMove(W)
+            .executeMove(W)
+            .executeMove(N)
+            .executeMove(N);
+        final var legalMoves = semiComplicatedBoard.allLegalMoves();
+
+        strategies.forEach((name, builder) -> {
+            final var strategy = builder.withTimeout(TIMEOUT).withDepth(100).build();
+
+            final var start = System.nanoTime();
+            final var aiMove = strategy.searchForTheBestMove(semiComplicatedBoard);
+            final var elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            Assertions.assertThat(legalMoves).as(name).contains(aiMove);
+            Assertions.assertThat(elapsedMillis).as(name).isLessThan(TIMEOUT.plus(TOLERANCE).toMillis());
+        });
+    }
+}
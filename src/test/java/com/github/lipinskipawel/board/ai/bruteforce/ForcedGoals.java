@@ -0,0 +1,78 @@
+package com.github.lipinskipawel.board.ai.bruteforce;
+
+import com.github.lipinskipawel.board.engine.Board;
+import com.github.lipinskipawel.board.engine.Boards;
+import com.github.lipinskipawel.board.engine.Player;
+
+import static com.github.lipinskipawel.board.engine.Direction.E;
+import static com.github.lipinskipawel.board.engine.Direction.N;
+import static com.github.lipinskipawel.board.engine.Direction.NE;
+import static com.github.lipinskipawel.board.engine.Direction.NW;
+import static com.github.lipinskipawel.board.engine.Direction.S;
+import static com.github.lipinskipawel.board.engine.Direction.SE;
+import static com.github.lipinskipawel.board.engine.Direction.SW;
+import static com.github.lipinskipawel.board.engine.Direction.W;
+
+/**
+ * Positions in which the player to move can not score the goal at once, but has a move after which the goal is scored
+ * whatever the opponent replies. findWinningMove does not find such a move, so only the search of depth 3 does.
+ */
+final class ForcedGoals {
+
+    private ForcedGoals() {
+    }
+
+    /**
+     * @return board on which FIRST forces the goal by E or by NE, S
+     */
+    static Board<Player> firstForcesGoal() {
+        return Boards.immutableBoard()
+            .executeMove(NW)
+            .executeMove(E)
+            .executeMove(NW)
+            .executeMove(S)
+            .executeMove(NW)
+            .executeMove(N)
+            .executeMove(SE)
+            .executeMove(NE)
+            .executeMove(NE)
+            .executeMove(N)
+            .executeMove(W)
+            .executeMove(SE);
+    }
+
+    /**
+     * @return board on which SECOND forces the goal by W or by SW, N
+     */
+    static Board<Player> secondForcesGoal() {
+        return Boards.immutableBoard()
+            .executeMove(SW)
+            .executeMove(SE)
+            .executeMove(S)
+            .executeMove(SE)
+            .executeMove(SE)
+            .executeMove(N)
+            .executeMove(SW)
+            .executeMove(NW)
+            .executeMove(SW)
+            .executeMove(N)
+            .executeMove(NE)
+            .executeMove(S)
+            .executeMove(W);
+    }
+
+    /**
+     * @param afterMove board after the move of the player who forces the goal
+     * @param <T>       type of the player
+     * @return true when the player wins after every reply of the opponent, at once or by the next move
+     */
+    static <T> boolean isGoalForced(final Board<T> afterMove) {
+        final var opponent = afterMove.getPlayer();
+        return !afterMove.isGameOver() && afterMove.forEachLegalMoveWhile(reply -> {
+            final var afterReply = afterMove.executeMove(reply);
+            return afterReply.isGameOver()
+                ? afterReply.takeTheWinner().filter(winner -> !winner.equals(opponent)).isPresent()
+                : afterReply.findWinningMove().isPresent();
+        });
+    }
+}
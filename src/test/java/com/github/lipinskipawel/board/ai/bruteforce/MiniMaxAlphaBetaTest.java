@@ -12,16 +12,21 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.List;
+
 import static com.github.lipinskipawel.board.engine.Direction.E;
 import static com.github.lipinskipawel.board.engine.Direction.N;
 import static com.github.lipinskipawel.board.engine.Direction.NE;
 import static com.github.lipinskipawel.board.engine.Direction.NW;
 import static com.github.lipinskipawel.board.engine.Direction.S;
 import static com.github.lipinskipawel.board.engine.Direction.SE;
+import static com.github.lipinskipawel.board.engine.Direction.SW;
 import static com.github.lipinskipawel.board.engine.Direction.W;
 import static com.github.lipinskipawel.board.engine.Player.FIRST;
 import static com.github.lipinskipawel.board.engine.Player.SECOND;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("API -- Minimax alpha-beta")
 class MiniMaxAlphaBetaTest implements WithAssertions {
@@ -132,6 +137,118 @@ class MiniMaxAlphaBetaTest implements WithAssertions {
         }
     }
 
+    @Nested
+    @DisplayName("iterative deepening")
+    class IterativeDeepening {
+
+        @Test
+        @DisplayName("should predict the next iteration from the growth of the last two")
+        void shouldPredictNextIteration() {
+            assertAll(
+                () -> Assertions.assertThat(MiniMaxAlphaBeta.predictNextIteration(10, 50)).isEqualTo(250L),
+                () -> Assertions.assertThat(MiniMaxAlphaBeta.predictNextIteration(50, 10)).isEqualTo(10L),
+                () -> Assertions.assertThat(MiniMaxAlphaBeta.predictNextIteration(0, 10)).isEqualTo(40L)
+            );
+        }
+
+        @Test
+        @DisplayName("should return the move of the deepest search completed within the timeout")
+        void shouldReturnMoveOfDeepestCompletedSearch() {
+            final var position = board
+                .executeMove(N)
+                .executeMove(E)
+                .executeMove(S)
+                .executeMove(S)
+                .executeMove(W)
+                .executeMove(W)
+                .executeMove(N)
+                .executeMove(N);
+            final var depth1Move = fixedDepth(1).searchForTheBestMove(position);
+            final var depth2Move = fixedDepth(2).searchForTheBestMove(position);
+            final var strategy = new MiniMaxAlphaBeta(new SmartBoardEvaluator(), 100, Duration.ofMillis(500));
+
+            final var move = strategy.searchForTheBestMove(position);
+            final var completedDepth = strategy.completedDepth();
+
+            assertAll(
+                () -> Assertions.assertThat(depth1Move).isNotEqualTo(depth2Move),
+                () -> Assertions.assertThat(completedDepth).isBetween(2, 99),
+                () -> Assertions.assertThat(move).isEqualTo(fixedDepth(completedDepth).searchForTheBestMove(position))
+            );
+        }
+
+        private MiniMaxAlphaBeta fixedDepth(final int depth) {
+            return new MiniMaxAlphaBeta(new SmartBoardEvaluator(), depth, Duration.ofHours(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("transposition table")
+    class WithTranspositionTable {
+
+        @Test
+        @DisplayName("should not make suicide move when searching again with the same table")
+        void shouldNotMakeSuicideMoveWithTable() {
+            final var strategy = MoveStrategy
+                .defaultMoveStrategyBuilder()
+                .withTranspositionTableSizeInMb(1)
+                .withDepth(3)
+                .build();
+            final var after4Moves = board
+                .executeMove(S)
+                .executeMove(S)
+                .executeMove(S)
+                .executeMove(S);
+
+            final var firstSearch = strategy.searchForTheBestMove(after4Moves);
+            final var secondSearch = strategy.searchForTheBestMove(after4Moves);
+
+            assertAll(
+                () -> Assertions.assertThat(after4Moves.executeMove(firstSearch).isGameOver()).isFalse(),
+                () -> Assertions.assertThat(after4Moves.executeMove(secondSearch).isGameOver()).isFalse()
+            );
+        }
+
+        @Test
+        @DisplayName("should choose the same move with and without the table at a fixed depth")
+        void shouldChooseSameMoveWithAndWithoutTable() {
+            final var positions = List.of(
+                board.executeMove(N).executeMove(E).executeMove(S).executeMove(E).executeMove(N).executeMove(SW)
+                    .executeMove(W),
+                board.executeMove(N).executeMove(NE).executeMove(NW).executeMove(W).executeMove(S).executeMove(NW)
+                    .executeMove(E).executeMove(N),
+                board.executeMove(W).executeMove(NE).executeMove(W)
+            );
+            final var withoutTable = MoveStrategy
+                .defaultMoveStrategyBuilder()
+                .withBoardEvaluator(new SmartBoardEvaluator())
+                .withTimeout(Duration.ofHours(1))
+                .withDepth(3)
+                .build();
+            final var withTable = MoveStrategy
+                .defaultMoveStrategyBuilder()
+                .withBoardEvaluator(new SmartBoardEvaluator())
+                .withTimeout(Duration.ofHours(1))
+                .withDepth(3)
+                .withTranspositionTableSizeInMb(1)
+                .build();
+
+            for (final var position : positions) {
+                final var expected = withoutTable.searchForTheBestMove(position);
+
+                Assertions.assertThat(withTable.searchForTheBestMove(position)).isEqualTo(expected);
+            }
+        }
+
+        @Test
+        @DisplayName("should throw exception when size is not positive")
+        void shouldThrowWhenSizeIsNotPositive() {
+            final var builder = MoveStrategy.defaultMoveStrategyBuilder();
+
+            assertThrows(IllegalArgumentException.class, () -> builder.withTranspositionTableSizeInMb(0));
+        }
+    }
+
     @Nested
     @DisplayName("Smart evaluator")
     class SmartEvaluator {
@@ -250,6 +367,26 @@ class MiniMaxAlphaBetaTest implements WithAssertions {
                     () -> Assertions.assertThat(afterAiMove.getPlayer()).isEqualByComparingTo(FIRST)
                 );
             }
+
+            @Test
+            @DisplayName("Should force the goal in two moves when player FIRST, depth 3")
+            void forceAGoalDepth3() {
+                final var position = ForcedGoals.firstForcesGoal();
+                final var strategy = MoveStrategy
+                    .defaultMoveStrategyBuilder()
+                    .withBoardEvaluator(new SmartBoardEvaluator())
+                    .withTimeout(Duration.ofHours(1))
+                    .withDepth(3)
+                    .build();
+
+                final var afterAiMove = position.executeMove(strategy.searchForTheBestMove(position));
+
+                assertAll(
+                    () -> Assertions.assertThat(position.getPlayer()).isEqualByComparingTo(FIRST),
+                    () -> Assertions.assertThat(position.findWinningMove()).isEmpty(),
+                    () -> Assertions.assertThat(ForcedGoals.isGoalForced(afterAiMove)).isTrue()
+                );
+            }
         }
 
         @Nested
@@ -366,6 +503,26 @@ class MiniMaxAlphaBetaTest implements WithAssertions {
                     () -> Assertions.assertThat(afterAiMove.getPlayer()).isEqualByComparingTo(Player.SECOND)
                 );
             }
+
+            @Test
+            @DisplayName("Should force a goal in two moves when player SECOND, depth 3")
+            void forceAGoalInSecondDayDepth3() {
+                final var position = ForcedGoals.secondForcesGoal();
+                final var strategy = MoveStrategy
+                    .defaultMoveStrategyBuilder()
+                    .withBoardEvaluator(new SmartBoardEvaluator())
+                    .withTimeout(Duration.ofHours(1))
+                    .withDepth(3)
+                    .build();
+
+                final var afterAiMove = position.executeMove(strategy.searchForTheBestMove(position));
+
+                assertAll(
+                    () -> Assertions.assertThat(position.getPlayer()).isEqualByComparingTo(SECOND),
+                    () -> Assertions.assertThat(position.findWinningMove()).isEmpty(),
+                    () -> Assertions.assertThat(ForcedGoals.isGoalForced(afterAiMove)).isTrue()
+                );
+            }
         }
 
         @Nested
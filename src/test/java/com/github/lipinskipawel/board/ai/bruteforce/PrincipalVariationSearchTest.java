@@ -0,0 +1,236 @@
+package com.github.lipinskipawel.board.ai.bruteforce;
+
+import com.github.lipinskipawel.board.ai.BoardEvaluator;
+import com.github.lipinskipawel.board.ai.MoveStrategy;
+import com.github.lipinskipawel.board.engine.Board;
+import com.github.lipinskipawel.board.engine.Boards;
+import com.github.lipinskipawel.board.engine.Player;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.github.lipinskipawel.board.engine.Direction.E;
+import static com.github.lipinskipawel.board.engine.Direction.N;
+import static com.github.lipinskipawel.board.engine.Direction.NE;
+import static com.github.lipinskipawel.board.engine.Direction.S;
+import static com.github.lipinskipawel.board.engine.Direction.SW;
+import static com.github.lipinskipawel.board.engine.Direction.W;
+import static com.github.lipinskipawel.board.engine.Player.FIRST;
+import static com.github.lipinskipawel.board.engine.Player.SECOND;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("API -- Principal variation search")
+class PrincipalVariationSearchTest {
+    private static final BoardEvaluator EVALUATOR = new SmartBoardEvaluator();
+    private final Board<Player> board = Boards.immutableBoard();
+
+    @Nested
+    @DisplayName("minimax score")
+    class MinimaxScore {
+
+        @Test
+        @DisplayName("should find the same score as minimax without pruning")
+        void shouldFindSameScoreAsMinimax() {
+            final var positions = List.of(
+                board,
+                board.executeMove(N).executeMove(E),
+                board.executeMove(N).executeMove(E).executeMove(SW),
+                board.executeMove(S).executeMove(S).executeMove(S).executeMove(S),
+                board.executeMove(NE).executeMove(NE).executeMove(N).executeMove(NE)
+            );
+
+            for (var position : positions) {
+                for (int depth = 1; depth <= 3; depth++) {
+                    final var search = new PrincipalVariationSearch(
+                        EVALUATOR, depth, Duration.ofSeconds(30), TranspositionTable.disabled());
+
+                    Assertions.assertThat(search.search(position, depth)).isEqualTo(negamax(position, depth));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should find the same score with the transposition table")
+        void shouldFindSameScoreWithTranspositionTable() {
+            final var position = board.executeMove(N).executeMove(E);
+            final var search = new PrincipalVariationSearch(
+                EVALUATOR, 3, Duration.ofSeconds(30), TranspositionTable.ofSizeInMb(1));
+
+            final var firstScore = search.search(position, 3);
+            final var secondScore = search.search(position, 3);
+
+            assertAll(
+                () -> Assertions.assertThat(firstScore).isEqualTo(negamax(position, 3)),
+                () -> Assertions.assertThat(secondScore).isEqualTo(firstScore)
+            );
+        }
+
+        @Test
+        @DisplayName("should visit fewer nodes than minimax without pruning")
+        void shouldVisitFewerNodes() {
+            final var position = board.executeMove(N).executeMove(E);
+            final var search = new PrincipalVariationSearch(
+                EVALUATOR, 3, Duration.ofSeconds(30), TranspositionTable.disabled());
+
+            search.search(position, 3);
+
+            Assertions.assertThat(search.nodes()).isLessThan(countNodes(position, 3) / 2);
+        }
+
+        @Test
+        @DisplayName("best move should have the score of the position")
+        void bestMoveShouldHaveScoreOfPosition() {
+            final var position = board.executeMove(N).executeMove(E);
+            final var search = new PrincipalVariationSearch(
+                EVALUATOR, 2, Duration.ofSeconds(30), TranspositionTable.disabled());
+
+            final var score = search.search(position, 2);
+
+            Assertions.assertThat(-negamax(position.executeMove(search.bestMove()), 1)).isEqualTo(score);
+        }
+    }
+
+    @Nested
+    @DisplayName("searchForTheBestMove")
+    class SearchForTheBestMove {
+        private final MoveStrategy strategy = MoveStrategy
+            .defaultMoveStrategyBuilder()
+            .withPrincipalVariationSearch()
+            .withTranspositionTableSizeInMb(1)
+            .withTimeout(Duration.ofSeconds(5))
+            .withDepth(3)
+            .build();
+
+        @Test
+        @DisplayName("should score the goal when player FIRST")
+        void shouldScoreGoal() {
+            final var after4Moves = board.executeMove(N).executeMove(N).executeMove(N).executeMove(N);
+
+            final var afterAiMove = after4Moves.executeMove(strategy.searchForTheBestMove(after4Moves));
+
+            Assertions.assertThat(afterAiMove.takeTheWinner()).contains(FIRST);
+        }
+
+        @Test
+        @DisplayName("should not score own goal when player SECOND")
+        void shouldNotScoreOwnGoal() {
+            final var after4Moves = board.executeMove(N).executeMove(N).executeMove(N).executeMove(N)
+                .executeMove(W);
+
+            final var afterAiMove = after4Moves.executeMove(strategy.searchForTheBestMove(after4Moves));
+
+            assertAll(
+                () -> Assertions.assertThat(after4Moves.getPlayer()).isEqualTo(SECOND),
+                () -> Assertions.assertThat(afterAiMove.isGameOver()).isFalse()
+            );
+        }
+
+        @Test
+        @DisplayName("should force the goal in two moves when player FIRST")
+        void shouldForceGoal() {
+            final var position = ForcedGoals.firstForcesGoal();
+
+            final var afterAiMove = position.executeMove(deepSearch().searchForTheBestMove(position));
+
+            assertAll(
+                () -> Assertions.assertThat(position.findWinningMove()).isEmpty(),
+                () -> Assertions.assertThat(ForcedGoals.isGoalForced(afterAiMove)).isTrue()
+            );
+        }
+
+        @Test
+        @DisplayName("should force the goal in two moves when player SECOND")
+        void shouldForceGoalAsSecond() {
+            final var position = ForcedGoals.secondForcesGoal();
+
+            final var afterAiMove = position.executeMove(deepSearch().searchForTheBestMove(position));
+
+            assertAll(
+                () -> Assertions.assertThat(position.findWinningMove()).isEmpty(),
+                () -> Assertions.assertThat(ForcedGoals.isGoalForced(afterAiMove)).isTrue()
+            );
+        }
+
+        /**
+         * @return the strategy which always completes the search of depth 3, whatever the speed of the machine
+         */
+        private MoveStrategy deepSearch() {
+            return MoveStrategy
+                .defaultMoveStrategyBuilder()
+                .withPrincipalVariationSearch()
+                .withTranspositionTableSizeInMb(1)
+                .withTimeout(Duration.ofHours(1))
+                .withDepth(3)
+                .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("withThreads")
+    class WithThreads {
+        private final MoveStrategy strategy = MoveStrategy
+            .defaultMoveStrategyBuilder()
+            .withThreads(4)
+            .withTimeout(Duration.ofSeconds(5))
+            .withDepth(3)
+            .build();
+
+        @Test
+        @DisplayName("should score the goal when player FIRST")
+        void shouldScoreGoal() {
+            final var after4Moves = board.executeMove(N).executeMove(N).executeMove(N).executeMove(N);
+
+            final var afterAiMove = after4Moves.executeMove(strategy.searchForTheBestMove(after4Moves));
+
+            Assertions.assertThat(afterAiMove.takeTheWinner()).contains(FIRST);
+        }
+
+        @Test
+        @DisplayName("should return legal moves of consecutive searches")
+        void shouldReturnLegalMoves() {
+            var position = board.executeMove(N).executeMove(E);
+            for (int i = 0; i < 3 && !position.isGameOver(); i++) {
+                final var aiMove = strategy.searchForTheBestMove(position);
+
+                Assertions.assertThat(position.allLegalMoves()).contains(aiMove);
+                position = position.executeMove(aiMove);
+            }
+        }
+
+        @Test
+        @DisplayName("should not accept non-positive number of threads")
+        void shouldNotAcceptNonPositiveThreads() {
+            final var builder = MoveStrategy.defaultMoveStrategyBuilder();
+
+            assertThrows(IllegalArgumentException.class, () -> builder.withThreads(0));
+        }
+    }
+
+    private static double negamax(final Board<?> position, final int depth) {
+        final var perspective = position.getPlayer().equals(position.getPlayerProvider().first()) ? 1 : -1;
+        if (depth == 0 || position.isGameOver()) {
+            return perspective * EVALUATOR.evaluate(position);
+        }
+        var best = Double.NEGATIVE_INFINITY;
+        for (var move : position.allLegalMoves()) {
+            best = Math.max(best, -negamax(position.executeMove(move), depth - 1));
+        }
+        return best;
+    }
+
+    private static long countNodes(final Board<?> position, final int depth) {
+        if (depth == 0 || position.isGameOver()) {
+            return 1;
+        }
+        var nodes = 1L;
+        for (var move : position.allLegalMoves()) {
+            nodes += countNodes(position.executeMove(move), depth - 1);
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.lipinskipawel.board.ai.bruteforce;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.github.lipinskipawel.board.ai.bruteforce.TranspositionTable.EXACT;
+import static com.github.lipinskipawel.board.ai.bruteforce.TranspositionTable.LOWER_BOUND;
+import static com.github.lipinskipawel.board.ai.bruteforce.TranspositionTable.NO_ENTRY;
+import static com.github.lipinskipawel.board.ai.bruteforce.TranspositionTable.NO_MOVE;
+import static com.github.lipinskipawel.board.ai.bruteforce.TranspositionTable.UPPER_BOUND;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Internal -- TranspositionTable")
+class TranspositionTableTest {
+    private static final long KEY = 0x1234_5678_9ABC_DEF0L;
+    private static final long SAME_SLOT_KEY = KEY ^ (1L << 50);
+
+    @Test
+    @DisplayName("should keep all fields of the entry")
+    void shouldKeepAllFieldsOfEntry() {
+        final var table = TranspositionTable.ofSizeInMb(1);
+
+        table.store(KEY, 5, LOWER_BOUND, -250.5, 42);
+        final var entry = table.probe(KEY);
+
+        assertAll(
+            () -> Assertions.assertThat(entry).isNotEqualTo(NO_ENTRY),
+            () -> Assertions.assertThat(TranspositionTable.depth(entry)).isEqualTo(5),
+            () -> Assertions.assertThat(TranspositionTable.bound(entry)).isEqualTo(LOWER_BOUND),
+            () -> Assertions.assertThat(TranspositionTable.score(entry)).isEqualTo(-250.5),
+            () -> Assertions.assertThat(TranspositionTable.moveIndex(entry)).isEqualTo(42)
+        );
+    }
+
+    @Test
+    @DisplayName("should not find position which has not been stored")
+    void shouldNotFindMissingPosition() {
+        final var table = TranspositionTable.ofSizeInMb(1);
+
+        table.store(KEY, 5, EXACT, 10, NO_MOVE);
+
+        assertAll(
+            () -> Assertions.assertThat(table.probe(SAME_SLOT_KEY)).isEqualTo(NO_ENTRY),
+            () -> Assertions.assertThat(table.probe(KEY + 1)).isEqualTo(NO_ENTRY),
+            () -> Assertions.assertThat(TranspositionTable.moveIndex(table.probe(KEY))).isEqualTo(NO_MOVE)
+        );
+    }
+
+    @Test
+    @DisplayName("should keep the deeper entry of the same search")
+    void shouldKeepDeeperEntry() {
+        final var table = TranspositionTable.ofSizeInMb(1);
+
+        table.store(KEY, 5, EXACT, 10, 1);
+        table.store(SAME_SLOT_KEY, 3, EXACT, 20, 2);
+
+        assertAll(
+            () -> Assertions.assertThat(table.probe(SAME_SLOT_KEY)).isEqualTo(NO_ENTRY),
+            () -> Assertions.assertThat(TranspositionTable.score(table.probe(KEY))).isEqualTo(10.0)
+        );
+    }
+
+    @Test
+    @DisplayName("should replace the entry of the previous search")
+    void shouldReplaceEntryOfPreviousSearch() {
+        final var table = TranspositionTable.ofSizeInMb(1);
+
+        table.store(KEY, 5, EXACT, 10, 1);
+        table.newSearch();
+        table.store(SAME_SLOT_KEY, 3, UPPER_BOUND, 20, 2);
+
+        assertAll(
+            () -> Assertions.assertThat(table.probe(KEY)).isEqualTo(NO_ENTRY),
+            () -> Assertions.assertThat(TranspositionTable.bound(table.probe(SAME_SLOT_KEY))).isEqualTo(UPPER_BOUND)
+        );
+    }
+
+    @Test
+    @DisplayName("should fit in the given size")
+    void shouldFitInGivenSize() {
+        assertAll(
+            () -> Assertions.assertThat(TranspositionTable.ofSizeInMb(1).capacity()).isEqualTo(65536),
+            () -> Assertions.assertThat(TranspositionTable.ofSizeInMb(3).capacity()).isEqualTo(131072),
+            () -> assertThrows(IllegalArgumentException.class, () -> TranspositionTable.ofSizeInMb(0))
+        );
+    }
+
+    @Test
+    @DisplayName("disabled table should not keep any entry")
+    void disabledTableShouldNotKeepEntries() {
+        final var table = TranspositionTable.disabled();
+
+        table.store(KEY, 5, EXACT, 10, 1);
+
+        Assertions.assertThat(table.probe(KEY)).isEqualTo(NO_ENTRY);
+    }
+}
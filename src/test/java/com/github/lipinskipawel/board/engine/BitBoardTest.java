@@ -0,0 +1,70 @@
+package com.github.lipinskipawel.board.engine;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.github.lipinskipawel.board.engine.Direction.E;
+import static com.github.lipinskipawel.board.engine.Direction.N;
+import static com.github.lipinskipawel.board.engine.Direction.SW;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("API -- BitBoard")
+class BitBoardTest extends BoardContractTest {
+
+    @Override
+    <T> Board<T> emptyBoard(final T first, final T second) {
+        return Boards.bitBoardWithCustomPlayer(first, second);
+    }
+
+    @Nested
+    @DisplayName("compatibility with ImmutableBoard")
+    class Compatibility {
+
+        @Test
+        @DisplayName("should transform the same way as ImmutableBoard")
+        void shouldTransformLikeImmutableBoard() {
+            final var immutable = Boards.immutableBoard().executeMove(N).executeMove(E).executeMove(SW);
+            final var bit = Boards.bitBoard().executeMove(N).executeMove(E).executeMove(SW);
+
+            assertAll(
+                () -> Assertions.assertThat(bit.transform()).containsExactly(immutable.transform()),
+                () -> Assertions.assertThat(bit.nonBinaryTransformation()).containsExactly(immutable.nonBinaryTransformation())
+            );
+        }
+
+        @Test
+        @DisplayName("random games should be seen the same by both implementations")
+        void shouldBehaveLikeImmutableBoard() {
+            final var games = new RandomGames(117);
+            for (int game = 0; game < 50; game++) {
+                Board<Player> immutable = Boards.immutableBoard();
+                Board<Player> bit = Boards.bitBoard();
+                for (int step = 0; step < 60 && !immutable.isGameOver(); step++) {
+                    final var direction = games.nextDirection();
+                    if (games.nextIsUndo() && !immutable.allMoves().isEmpty()) {
+                        immutable = immutable.undo();
+                        bit = bit.undo();
+                    } else {
+                        immutable = immutable.executeMove(direction);
+                        bit = bit.executeMove(direction);
+                    }
+                    assertSameState(immutable, bit);
+                }
+            }
+        }
+
+        private void assertSameState(final Board<Player> immutable, final Board<Player> bit) {
+            Assertions.assertThat(bit.getBallPosition()).isEqualTo(immutable.getBallPosition());
+            Assertions.assertThat(bit.getBallAPI()).isEqualTo(immutable.getBallAPI());
+            Assertions.assertThat(bit.getPlayer()).isEqualTo(immutable.getPlayer());
+            Assertions.assertThat(bit.getPlayerProvider()).isEqualTo(immutable.getPlayerProvider());
+            Assertions.assertThat(bit.isGameOver()).isEqualTo(immutable.isGameOver());
+            Assertions.assertThat(bit.takeTheWinner()).isEqualTo(immutable.takeTheWinner());
+            Assertions.assertThat(bit.allMoves()).containsExactlyElementsOf(immutable.allMoves());
+            Assertions.assertThat(bit.moveHistory()).containsExactlyElementsOf(immutable.moveHistory());
+            Assertions.assertThat(bit.transform()).containsExactly(immutable.transform());
+        }
+    }
+}
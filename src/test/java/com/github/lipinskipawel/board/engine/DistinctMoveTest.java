@@ -0,0 +1,71 @@
+package com.github.lipinskipawel.board.engine;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.github.lipinskipawel.board.engine.Direction.N;
+import static com.github.lipinskipawel.board.engine.Direction.NE;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("API -- allDistinctLegalMoves")
+class DistinctMoveTest {
+
+    @Test
+    @DisplayName("should return one move for every direction at the beginning of the game")
+    void shouldReturnMoveForEveryDirection() {
+        final var distinctMoves = Boards.immutableBoard().allDistinctLegalMoves();
+
+        assertAll(
+            () -> Assertions.assertThat(distinctMoves).hasSize(8),
+            () -> Assertions.assertThat(distinctMoves.stream().mapToLong(DistinctMove::count).sum()).isEqualTo(8)
+        );
+    }
+
+    @Test
+    @DisplayName("should group legal moves by the position they lead to")
+    void shouldGroupLegalMovesByPosition() {
+        final var games = new RandomGames(15);
+        var foundTransposition = false;
+        for (int game = 0; game < 30; game++) {
+            final var board = games.play(game % 2 == 0 ? Boards.immutableBoard() : Boards.bitBoard(), 15);
+            final var expected = new HashMap<Long, Long>();
+            for (var move : board.allLegalMoves()) {
+                expected.merge(board.executeMove(move).positionKey(), 1L, Long::sum);
+            }
+
+            final var distinctMoves = board.allDistinctLegalMoves();
+
+            final var found = new HashMap<Long, Long>();
+            for (var distinctMove : distinctMoves) {
+                found.put(distinctMove.positionKey(), distinctMove.count());
+                Assertions.assertThat(board.executeMove(distinctMove.move()).positionKey())
+                    .isEqualTo(distinctMove.positionKey());
+                foundTransposition |= distinctMove.count() > 1;
+            }
+            Assertions.assertThat(distinctMoves).hasSize(expected.size());
+            Assertions.assertThat(found).isEqualTo(expected);
+        }
+        Assertions.assertThat(foundTransposition).isTrue();
+    }
+
+    @Test
+    @DisplayName("should return legal moves as representatives")
+    void shouldReturnLegalMoves() {
+        final var board = Boards.immutableBoard()
+            .executeMove(NE)
+            .executeMove(NE)
+            .executeMove(N)
+            .executeMove(NE);
+        final List<Move> legalMoves = board.allLegalMoves();
+
+        final var distinctMoves = board.allDistinctLegalMoves();
+
+        Assertions.assertThat(legalMoves)
+            .containsAll(distinctMoves.stream().map(DistinctMove::move).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.lipinskipawel.board.engine;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.github.lipinskipawel.board.engine.Direction.E;
+import static com.github.lipinskipawel.board.engine.Direction.N;
+import static com.github.lipinskipawel.board.engine.Direction.NE;
+import static com.github.lipinskipawel.board.engine.Direction.NW;
+import static com.github.lipinskipawel.board.engine.Direction.S;
+import static com.github.lipinskipawel.board.engine.Direction.SE;
+import static com.github.lipinskipawel.board.engine.Direction.SW;
+import static com.github.lipinskipawel.board.engine.Direction.W;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("Internal -- Geometry")
+class GeometryTest {
+
+    @Nested
+    @DisplayName("neighbour")
+    class Neighbour {
+
+        @Test
+        @DisplayName("should give neighbours of the point in the middle of the pitch")
+        void shouldGiveNeighboursInTheMiddle() {
+            assertAll(
+                () -> Assertions.assertThat(Geometry.neighbour(58, N)).isEqualTo(49),
+                () -> Assertions.assertThat(Geometry.neighbour(58, NE)).isEqualTo(50),
+                () -> Assertions.assertThat(Geometry.neighbour(58, E)).isEqualTo(59),
+                () -> Assertions.assertThat(Geometry.neighbour(58, SE)).isEqualTo(68),
+                () -> Assertions.assertThat(Geometry.neighbour(58, S)).isEqualTo(67),
+                () -> Assertions.assertThat(Geometry.neighbour(58, SW)).isEqualTo(66),
+                () -> Assertions.assertThat(Geometry.neighbour(58, W)).isEqualTo(57),
+                () -> Assertions.assertThat(Geometry.neighbour(58, NW)).isEqualTo(48)
+            );
+        }
+
+        @Test
+        @DisplayName("should not wrap around the edges of the grid")
+        void shouldNotWrapAround() {
+            assertAll(
+                () -> Assertions.assertThat(Geometry.neighbour(18, W)).isEqualTo(Geometry.NO_NEIGHBOUR),
+                () -> Assertions.assertThat(Geometry.neighbour(18, SW)).isEqualTo(Geometry.NO_NEIGHBOUR),
+                () -> Assertions.assertThat(Geometry.neighbour(26, E)).isEqualTo(Geometry.NO_NEIGHBOUR),
+                () -> Assertions.assertThat(Geometry.neighbour(4, N)).isEqualTo(Geometry.NO_NEIGHBOUR),
+                () -> Assertions.assertThat(Geometry.neighbour(112, S)).isEqualTo(Geometry.NO_NEIGHBOUR)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("classification")
+    class Classification {
+
+        @Test
+        @DisplayName("should classify goals, corners, border and outside points")
+        void shouldClassifyPoints() {
+            assertAll(
+                () -> Assertions.assertThat(Geometry.isTopGoal(4)).isTrue(),
+                () -> Assertions.assertThat(Geometry.isBottomGoal(112)).isTrue(),
+                () -> Assertions.assertThat(Geometry.isGoal(13)).isFalse(),
+                () -> Assertions.assertThat(Geometry.isCorner(9)).isTrue(),
+                () -> Assertions.assertThat(Geometry.isCorner(107)).isTrue(),
+                () -> Assertions.assertThat(Geometry.isBorder(45)).isTrue(),
+                () -> Assertions.assertThat(Geometry.isBorder(13)).isFalse(),
+                () -> Assertions.assertThat(Geometry.isOutside(0)).isTrue(),
+                () -> Assertions.assertThat(Geometry.isOutside(58)).isFalse()
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("initialMask")
+    class InitialMask {
+
+        @Test
+        @DisplayName("should allow every direction in the middle of the pitch")
+        void shouldAllowEveryDirectionInTheMiddle() {
+            Assertions.assertThat(Geometry.initialMask(58)).isEqualTo(0xFF);
+        }
+
+        @Test
+        @DisplayName("should not allow any direction from goals, corners and outside points")
+        void shouldNotAllowAnyDirection() {
+            assertAll(
+                () -> Assertions.assertThat(Geometry.initialMask(4)).isEqualTo(0),
+                () -> Assertions.assertThat(Geometry.initialMask(9)).isEqualTo(0),
+                () -> Assertions.assertThat(Geometry.initialMask(0)).isEqualTo(0)
+            );
+        }
+
+        @Test
+        @DisplayName("should not allow to cross the goal post")
+        void shouldNotAllowToCrossGoalPost() {
+            final var mask = Geometry.initialMask(12);
+
+            assertAll(
+                () -> Assertions.assertThat(mask & (1 << Geometry.bit(NE))).isNotEqualTo(0),
+                () -> Assertions.assertThat(mask & (1 << Geometry.bit(N))).isEqualTo(0),
+                () -> Assertions.assertThat(Geometry.initialMask(11) & (1 << Geometry.bit(NE))).isEqualTo(0)
+            );
+        }
+
+        @Test
+        @DisplayName("should not allow to move along the border line")
+        void shouldNotAllowToMoveAlongBorder() {
+            final var mask = Geometry.initialMask(45);
+
+            Assertions.assertThat(mask).isEqualTo((1 << Geometry.bit(NE)) | (1 << Geometry.bit(E)) | (1 << Geometry.bit(SE)));
+        }
+    }
+}
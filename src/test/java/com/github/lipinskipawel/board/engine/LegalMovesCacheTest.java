@@ -0,0 +1,167 @@
+package com.github.lipinskipawel.board.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.github.lipinskipawel.board.engine.Direction.E;
+import static com.github.lipinskipawel.board.engine.Direction.N;
+import static com.github.lipinskipawel.board.engine.Direction.S;
+import static com.github.lipinskipawel.board.engine.Direction.W;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("API -- LegalMovesCache")
+class LegalMovesCacheTest {
+
+    @Nested
+    @DisplayName("board with cache")
+    class BoardWithCache {
+
+        @Test
+        @DisplayName("should find the same moves as the board without cache")
+        void shouldFindSameMoves() {
+            final var cache = LegalMovesCache.aLegalMovesCache().build();
+            final var board = Boards.immutableBoard(cache).executeMove(N).executeMove(E);
+            final var expected = Boards.immutableBoard().executeMove(N).executeMove(E).allLegalMoves();
+
+            final var firstCall = board.allLegalMoves();
+            final var secondCall = board.allLegalMoves();
+
+            assertAll(
+                () -> assertThat(firstCall).containsExactlyElementsOf(expected),
+                () -> assertThat(secondCall).containsExactlyElementsOf(expected),
+                () -> assertThat(cache.missCount()).isEqualTo(1L),
+                () -> assertThat(cache.hitCount()).isEqualTo(1L),
+                () -> assertThat(cache.size()).isEqualTo(1),
+                () -> assertThat(cache.weight()).isEqualTo((long) expected.size())
+            );
+        }
+
+        @Test
+        @DisplayName("should share moves between boards of the same position")
+        void shouldShareMovesBetweenBoards() {
+            final var cache = LegalMovesCache.aLegalMovesCache().build();
+            final var board = Boards.immutableBoard(cache);
+
+            board.executeMove(N).executeMove(E).allLegalMoves();
+            board.executeMove(N).executeMove(E).allLegalMoves();
+
+            assertAll(
+                () -> assertThat(cache.missCount()).isEqualTo(1L),
+                () -> assertThat(cache.hitCount()).isEqualTo(1L)
+            );
+        }
+
+        @Test
+        @DisplayName("should store moves found by the completed future")
+        void shouldStoreMovesFoundByFuture() {
+            final var cache = LegalMovesCache.aLegalMovesCache().build();
+            final var board = Boards.immutableBoard(cache).executeMove(N).executeMove(E);
+            final var future = board.allLegalMovesFuture();
+            future.start(Duration.ofSeconds(5));
+            final var foundByFuture = future.stream().collect(Collectors.toList());
+
+            final var moves = board.allLegalMoves();
+            final var cachedFuture = board.allLegalMovesFuture();
+            cachedFuture.start(Duration.ofSeconds(5));
+            final var foundByCachedFuture = cachedFuture.stream().collect(Collectors.toList());
+
+            assertAll(
+                () -> assertThat(moves).containsExactlyElementsOf(foundByFuture),
+                () -> assertThat(foundByCachedFuture).containsExactlyElementsOf(foundByFuture),
+                () -> assertThat(cache.missCount()).isEqualTo(1L),
+                () -> assertThat(cache.hitCount()).isEqualTo(2L)
+            );
+        }
+
+        @Test
+        @DisplayName("should not store moves of the cancelled future")
+        void shouldNotStoreMovesOfCancelledFuture() {
+            final var cache = LegalMovesCache.aLegalMovesCache().build();
+            final var board = Boards.immutableBoard(cache).executeMove(N).executeMove(E);
+            final var future = board.allLegalMovesFuture();
+            future.cancel();
+            future.start(Duration.ofSeconds(5));
+
+            assertThat(cache.size()).isEqualTo(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("eviction")
+    class Eviction {
+
+        @Test
+        @DisplayName("should evict the least recently used position when size is exceeded")
+        void shouldEvictLeastRecentlyUsedPosition() {
+            final var cache = LegalMovesCache.aLegalMovesCache().withMaximumSize(2).build();
+            final var board = Boards.immutableBoard(cache);
+            final var first = board.executeMove(N);
+            final var second = board.executeMove(S);
+            final var third = board.executeMove(W);
+
+            first.allLegalMoves();
+            second.allLegalMoves();
+            first.allLegalMoves();
+            third.allLegalMoves();
+            first.allLegalMoves();
+            second.allLegalMoves();
+
+            assertAll(
+                () -> assertThat(cache.size()).isEqualTo(2),
+                () -> assertThat(cache.hitCount()).isEqualTo(2L),
+                () -> assertThat(cache.missCount()).isEqualTo(4L),
+                () -> assertThat(cache.evictionCount()).isEqualTo(2L)
+            );
+        }
+
+        @Test
+        @DisplayName("should keep total number of moves within maximum weight")
+        void shouldKeepWeightWithinMaximum() {
+            final var cache = LegalMovesCache.aLegalMovesCache().withMaximumWeight(10).build();
+            final var board = Boards.immutableBoard(cache);
+            final var initialMoves = board.allLegalMoves();
+            final var movesAfterTwoMoves = board.executeMove(N).executeMove(E).allLegalMoves();
+
+            assertAll(
+                () -> assertThat(initialMoves).hasSize(8),
+                () -> assertThat(movesAfterTwoMoves.size()).isGreaterThan(10),
+                () -> assertThat(cache.size()).isEqualTo(1),
+                () -> assertThat(cache.weight()).isEqualTo(8L)
+            );
+        }
+
+        @Test
+        @DisplayName("should throw exception when limits are not positive")
+        void shouldThrowWhenLimitsAreNotPositive() {
+            final var builder = LegalMovesCache.aLegalMovesCache();
+
+            assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> builder.withMaximumSize(0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> builder.withMaximumWeight(0))
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should remove all positions on clear")
+    void shouldRemoveAllPositionsOnClear() {
+        final var cache = LegalMovesCache.aLegalMovesCache().build();
+        final List<Move> moves = Boards.immutableBoard(cache).allLegalMoves();
+
+        cache.clear();
+
+        assertAll(
+            () -> assertThat(moves).hasSize(8),
+            () -> assertThat(cache.size()).isEqualTo(0),
+            () -> assertThat(cache.weight()).isEqualTo(0L),
+            () -> assertThat(cache.missCount()).isEqualTo(1L)
+        );
+    }
+}
@@ -11,10 +11,16 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static com.github.lipinskipawel.board.engine.Direction.E;
 import static com.github.lipinskipawel.board.engine.Direction.N;
@@ -22,6 +28,7 @@ import static com.github.lipinskipawel.board.engine.Direction.NW;
 import static com.github.lipinskipawel.board.engine.Direction.S;
 import static com.github.lipinskipawel.board.engine.Direction.W;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 final class LegalMovesFutureTest implements WithAssertions {
 
@@ -80,6 +87,426 @@ final class LegalMovesFutureTest implements WithAssertions {
         assertThat(globalForNotComplete.size()).isLessThan(completed);
     }
 
+    @Nested
+    @DisplayName("cancellation")
+    class Cancellation {
+
+        @Test
+        @DisplayName("should not store any move after cancel returns")
+        void shouldNotStoreMovesAfterCancel() throws InterruptedException {
+            final var pool = new ForkJoinPool(4);
+            try {
+                for (var legalMovesFuture : List.of(
+                    complicatedBoard.allLegalMovesFuture(),
+                    complicatedBoard.parallelLegalMovesFuture(pool))) {
+                    legalMovesFuture.start(Duration.ofSeconds(30));
+                    final var firstMove = legalMovesFuture.poll(Duration.ofSeconds(5));
+
+                    legalMovesFuture.cancel();
+                    final var isRunning = legalMovesFuture.isRunning();
+                    legalMovesFuture.partialResult();
+                    Thread.sleep(50);
+
+                    assertAll(
+                        () -> assertThat(firstMove).isPresent(),
+                        () -> assertThat(isRunning).isFalse(),
+                        () -> assertThat(legalMovesFuture.partialResult()).isEmpty()
+                    );
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("should not lose any move when the consumer stops on isRunning")
+        void shouldNotLoseMoves() {
+            final var afterMoves = board.executeMove(N).executeMove(E);
+            final var expected = afterMoves.countLegalMoves();
+            for (int i = 0; i < 50; i++) {
+                final var legalMovesFuture = afterMoves.allLegalMovesFuture();
+                legalMovesFuture.start(Duration.ofSeconds(5));
+                var found = 0L;
+                while (legalMovesFuture.isRunning()) {
+                    found += legalMovesFuture.partialResult().size();
+                }
+                found += legalMovesFuture.partialResult().size();
+
+                assertThat(found).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("executor")
+    class GivenExecutor {
+
+        @Test
+        @DisplayName("should run the computation on the given executor")
+        void shouldRunOnGivenExecutor() {
+            final var executions = new AtomicInteger();
+            final Executor callingThread = runnable -> {
+                executions.incrementAndGet();
+                runnable.run();
+            };
+            final var legalMovesFuture = board.allLegalMovesFuture(callingThread);
+
+            legalMovesFuture.start(Duration.ofSeconds(1));
+
+            assertAll(
+                () -> assertThat(executions.get()).isEqualTo(1),
+                () -> assertThat(legalMovesFuture.isRunning()).isFalse(),
+                () -> assertThat(legalMovesFuture.partialResult()).hasSize(8)
+            );
+        }
+
+        @Test
+        @DisplayName("should stop the computation after timeout")
+        void shouldStopAfterTimeout() {
+            final var executor = Executors.newSingleThreadExecutor();
+            try {
+                final var legalMovesFuture = complicatedBoard.allLegalMovesFuture(executor);
+
+                legalMovesFuture.start(Duration.ofMillis(100));
+
+                final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (legalMovesFuture.isRunning() && System.nanoTime() < deadline) {
+                    Thread.onSpinWait();
+                }
+                assertThat(legalMovesFuture.isRunning()).isFalse();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("should cancel the computation rejected by the executor")
+        void shouldCancelRejectedComputation() {
+            final var executor = Executors.newSingleThreadExecutor();
+            executor.shutdown();
+            final var legalMovesFuture = board.allLegalMovesFuture(executor);
+
+            assertAll(
+                () -> assertThrows(RejectedExecutionException.class, () -> legalMovesFuture.start(Duration.ofSeconds(1))),
+                () -> assertThat(legalMovesFuture.isRunning()).isFalse()
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("default executor")
+    class DefaultExecutor {
+        private final int threads = Runtime.getRuntime().availableProcessors();
+
+        @Test
+        @DisplayName("should find all moves when every thread of the pool is busy with other computations")
+        void shouldFindAllMovesNextToLongComputations() {
+            final var longComputations = new ArrayList<LegalMovesFuture>();
+            for (int i = 0; i < threads; i++) {
+                final var legalMovesFuture = complicatedBoard.allLegalMovesFuture();
+                legalMovesFuture.start(Duration.ofSeconds(60));
+                longComputations.add(legalMovesFuture);
+            }
+            try {
+                final var fresh = board.allLegalMovesFuture();
+                fresh.start(Duration.ofMillis(20));
+
+                assertThat(fresh.stream().count()).isEqualTo(8);
+            } finally {
+                longComputations.forEach(LegalMovesFuture::cancel);
+            }
+        }
+
+        @Test
+        @DisplayName("should find all moves next to computations left by short-circuiting streams")
+        void shouldFindAllMovesNextToShortCircuitedStreams() {
+            final var closeToCorner = board
+                .executeMove(Direction.NE)
+                .executeMove(Direction.NE)
+                .executeMove(N)
+                .executeMove(Direction.NE);
+            final var shortCircuited = new ArrayList<LegalMovesFuture>();
+            for (int i = 0; i < threads + 1; i++) {
+                final var legalMovesFuture = closeToCorner.allLegalMovesFuture();
+                legalMovesFuture.start(Duration.ofSeconds(60), 1);
+                assertThat(legalMovesFuture.stream().findFirst()).isPresent();
+                shortCircuited.add(legalMovesFuture);
+            }
+            try {
+                final var fresh = board.allLegalMovesFuture();
+                fresh.start(Duration.ofSeconds(2));
+
+                assertAll(
+                    () -> assertThat(fresh.stream().count()).isEqualTo(8),
+                    () -> assertThat(shortCircuited.get(0).isRunning()).isTrue()
+                );
+            } finally {
+                shortCircuited.forEach(LegalMovesFuture::cancel);
+            }
+        }
+
+        @Test
+        @DisplayName("should resume the computation waiting for the client after moves are taken out")
+        void shouldResumeWaitingComputation() throws InterruptedException {
+            final var legalMovesFuture = complicatedBoard.allLegalMovesFuture();
+            legalMovesFuture.start(Duration.ofSeconds(60), 1);
+            final var first = legalMovesFuture.poll(Duration.ofSeconds(5));
+            Thread.sleep(50);
+
+            final var second = legalMovesFuture.poll(Duration.ofSeconds(5));
+            legalMovesFuture.cancel();
+
+            assertAll(
+                () -> assertThat(first).isPresent(),
+                () -> assertThat(second).isPresent(),
+                () -> assertThat(second).isNotEqualTo(first)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("blocking consumption")
+    class BlockingConsumption {
+        private final Board<Player> closeToCorner = board
+            .executeMove(Direction.NE)
+            .executeMove(Direction.NE)
+            .executeMove(N)
+            .executeMove(Direction.NE);
+
+        @Test
+        @DisplayName("stream should return all moves")
+        void streamShouldReturnAllMoves() {
+            final var legalMovesFuture = closeToCorner.allLegalMovesFuture();
+            legalMovesFuture.start(Duration.ofSeconds(5));
+
+            final var moves = legalMovesFuture.stream().collect(Collectors.toList());
+
+            assertAll(
+                () -> assertThat(moves).containsExactlyElementsOf(closeToCorner.allLegalMoves()),
+                () -> assertThat(legalMovesFuture.isRunning()).isFalse()
+            );
+        }
+
+        @Test
+        @DisplayName("stream should not lose moves published at the end of the computation")
+        void streamShouldNotLoseLastMoves() {
+            final var expected = closeToCorner.countLegalMoves();
+            for (int run = 0; run < 2_000; run++) {
+                final var legalMovesFuture = closeToCorner.allLegalMovesFuture();
+                legalMovesFuture.start(Duration.ofSeconds(5));
+
+                assertThat(legalMovesFuture.stream().count()).isEqualTo(expected);
+            }
+        }
+
+        @Test
+        @DisplayName("should find all moves of more futures than threads of the default pool")
+        void shouldFindAllMovesOfQueuedFutures() {
+            final var expected = closeToCorner.countLegalMoves();
+            final var futures = new ArrayList<LegalMovesFuture>();
+            for (int i = 0; i < 4 * Runtime.getRuntime().availableProcessors() + 1; i++) {
+                final var legalMovesFuture = closeToCorner.allLegalMovesFuture();
+                legalMovesFuture.start(Duration.ofSeconds(5), 2);
+                futures.add(legalMovesFuture);
+            }
+
+            for (var legalMovesFuture : futures) {
+                assertThat(legalMovesFuture.stream().count()).isEqualTo(expected);
+            }
+        }
+
+        @Test
+        @DisplayName("poll should return empty after all moves have been taken")
+        void pollShouldReturnEmptyAfterAllMoves() throws InterruptedException {
+            final var legalMovesFuture = board.allLegalMovesFuture();
+            legalMovesFuture.start(Duration.ofSeconds(5));
+            final var moves = new ArrayList<Move>();
+
+            var move = legalMovesFuture.poll(Duration.ofSeconds(5));
+            while (move.isPresent()) {
+                moves.add(move.get());
+                move = legalMovesFuture.poll(Duration.ofSeconds(5));
+            }
+
+            assertThat(moves).hasSize(8);
+        }
+
+        @Test
+        @DisplayName("poll should return empty when the computation has not been started in time")
+        void pollShouldReturnEmptyAfterTimeout() throws InterruptedException {
+            final var legalMovesFuture = board.allLegalMovesFuture();
+
+            assertThat(legalMovesFuture.poll(Duration.ofMillis(10))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("computation should wait when the buffer is full")
+        void shouldWaitWhenBufferIsFull() throws InterruptedException {
+            final var legalMovesFuture = closeToCorner.allLegalMovesFuture();
+            legalMovesFuture.start(Duration.ofSeconds(5), 2);
+
+            Thread.sleep(100);
+            final var isRunning = legalMovesFuture.isRunning();
+            final var buffered = legalMovesFuture.partialResult();
+            final var rest = legalMovesFuture.stream().collect(Collectors.toList());
+
+            assertAll(
+                () -> assertThat(isRunning).isTrue(),
+                () -> assertThat(buffered).hasSize(2),
+                () -> assertThat(rest).hasSize(23)
+            );
+        }
+
+        @Test
+        @DisplayName("should throw exception when buffer capacity is not positive")
+        void shouldThrowWhenCapacityIsNotPositive() {
+            final var legalMovesFuture = board.allLegalMovesFuture();
+
+            assertThrows(IllegalArgumentException.class, () -> legalMovesFuture.start(Duration.ofSeconds(1), 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("options")
+    class Options {
+
+        @Test
+        @DisplayName("should stop the computation after max moves")
+        void shouldStopAfterMaxMoves() {
+            final var options = LegalMovesOptions.aLegalMovesOptions().withMaxMoves(10).build();
+            final var legalMovesFuture = complicatedBoard.allLegalMovesFuture(options);
+            legalMovesFuture.start(Duration.ofSeconds(30));
+
+            final var moves = legalMovesFuture.stream().collect(Collectors.toList());
+
+            assertAll(
+                () -> assertThat(moves).hasSize(10),
+                () -> assertThat(legalMovesFuture.isRunning()).isFalse()
+            );
+        }
+
+        @Test
+        @DisplayName("should find moves in the given order of directions")
+        void shouldFindMovesInGivenOrder() {
+            final var options = LegalMovesOptions.aLegalMovesOptions()
+                .withDirectionOrder(Comparator.comparing(Direction::name))
+                .build();
+            final var legalMovesFuture = board.allLegalMovesFuture(options);
+            legalMovesFuture.start(Duration.ofSeconds(5));
+
+            final var moves = legalMovesFuture.stream().collect(Collectors.toList());
+
+            assertThat(moves).containsExactly(
+                new Move(List.of(E)), new Move(List.of(N)), new Move(List.of(Direction.NE)), new Move(List.of(NW)),
+                new Move(List.of(S)), new Move(List.of(Direction.SE)), new Move(List.of(Direction.SW)),
+                new Move(List.of(W))
+            );
+        }
+
+        @Test
+        @DisplayName("should find moves towards the opponent goal first")
+        void shouldFindMovesTowardsOpponentGoalFirst() {
+            final var options = LegalMovesOptions.aLegalMovesOptions()
+                .withDirectionsTowardsOpponentGoal()
+                .withMaxMoves(1)
+                .build();
+            final var afterMoves = board.executeMove(N).executeMove(E);
+            final var firstPlayerMoves = afterMoves.allLegalMovesFuture(options);
+            final var secondPlayerMoves = afterMoves.executeMove(S).allLegalMovesFuture(options);
+            firstPlayerMoves.start(Duration.ofSeconds(5));
+            secondPlayerMoves.start(Duration.ofSeconds(5));
+
+            final var firstPlayerMove = firstPlayerMoves.stream().collect(Collectors.toList());
+            final var secondPlayerMove = secondPlayerMoves.stream().collect(Collectors.toList());
+
+            assertAll(
+                () -> assertThat(firstPlayerMove).containsExactly(new Move(List.of(N))),
+                () -> assertThat(secondPlayerMove).containsExactly(new Move(List.of(Direction.SE)))
+            );
+        }
+
+        @Test
+        @DisplayName("should explore the most promising direction first")
+        void shouldExploreMostPromisingDirectionFirst() {
+            final var options = LegalMovesOptions.aLegalMovesOptions()
+                .withDirectionsTowardsOpponentGoal()
+                .build();
+            final var afterMoves = board.executeMove(N).executeMove(E);
+            final var legalMovesFuture = afterMoves.allLegalMovesFuture(options);
+            legalMovesFuture.start(Duration.ofSeconds(5));
+
+            final var moves = legalMovesFuture.stream().collect(Collectors.toList());
+
+            assertAll(
+                () -> assertThat(moves).containsExactlyInAnyOrderElementsOf(afterMoves.allLegalMoves()),
+                () -> assertThat(moves.get(moves.size() - 6)).isEqualTo(new Move(List.of(Direction.SW, NW)))
+            );
+        }
+
+        @Test
+        @DisplayName("should throw exception when max moves is not positive")
+        void shouldThrowWhenMaxMovesIsNotPositive() {
+            final var builder = LegalMovesOptions.aLegalMovesOptions();
+
+            assertThrows(IllegalArgumentException.class, () -> builder.withMaxMoves(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("parallelLegalMovesFuture")
+    class Parallel {
+        private ForkJoinPool pool;
+
+        @BeforeEach
+        void setUp() {
+            this.pool = new ForkJoinPool(4);
+        }
+
+        @AfterEach
+        void cleanUp() {
+            pool.shutdownNow();
+        }
+
+        @Test
+        @DisplayName("should find the same moves as the sequential search")
+        void shouldFindTheSameMovesAsSequentialSearch() {
+            final var games = new RandomGames(13);
+            for (int game = 0; game < 20; game++) {
+                final var afterMoves = games.play(board, 15);
+                final var expected = afterMoves.allLegalMoves();
+
+                final var found = waitForAllMoves(afterMoves.parallelLegalMovesFuture(pool));
+
+                assertThat(found).containsExactlyInAnyOrderElementsOf(expected);
+            }
+        }
+
+        @Test
+        @DisplayName("should stop the computation after cancel")
+        void shouldStopAfterCancel() {
+            final var legalMovesFuture = complicatedBoard.parallelLegalMovesFuture(pool);
+            legalMovesFuture.start(Duration.ofSeconds(30));
+
+            legalMovesFuture.cancel();
+            legalMovesFuture.partialResult();
+
+            assertAll(
+                () -> assertThat(legalMovesFuture.isRunning()).isFalse(),
+                () -> assertThat(pool.awaitQuiescence(5, TimeUnit.SECONDS)).isTrue()
+            );
+        }
+
+        private List<Move> waitForAllMoves(final LegalMovesFuture legalMovesFuture) {
+            legalMovesFuture.start(Duration.ofSeconds(10));
+            final var allMoves = new ArrayList<Move>();
+            while (legalMovesFuture.isRunning()) {
+                allMoves.addAll(legalMovesFuture.partialResult());
+            }
+            allMoves.addAll(legalMovesFuture.partialResult());
+            return allMoves;
+        }
+    }
+
     @Nested
     @DisplayName("allLegalMoves")
     class LegalMoves {
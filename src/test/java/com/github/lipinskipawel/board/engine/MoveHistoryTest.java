@@ -382,4 +382,57 @@ class MoveHistoryTest {
             Assertions.assertThat(afterMoves.currentPlayer()).isFalse();
         }
     }
+
+    @Nested
+    @DisplayName("persistence")
+    class PersistenceTest {
+
+        @Test
+        @DisplayName("adding directions should not change the original history")
+        void shouldNotChangeOriginalHistory() {
+            final var original = moveLog
+                .addMove(new Move(List.of(Direction.S)))
+                .add(Direction.N);
+
+            original.addMove(new Move(List.of(Direction.W)));
+            original.forceUndo();
+
+            Assertions.assertThat(original.allDirections()).containsExactlyElementsOf(List.of(Direction.S, Direction.N));
+            Assertions.assertThat(original.isSmallMoveHasBeenMade()).isTrue();
+        }
+
+        @Test
+        @DisplayName("histories with the same moves should be equal")
+        void shouldBeEqualForTheSameMoves() {
+            final var first = moveLog
+                .addMove(new Move(List.of(Direction.S, Direction.E)))
+                .addMove(new Move(List.of(Direction.N)));
+            final var second = moveLog
+                .add(Direction.S)
+                .addMove(new Move(List.of(Direction.E)))
+                .addMove(new Move(List.of(Direction.W)))
+                .forceUndo()
+                .addMove(new Move(List.of(Direction.N)));
+
+            Assertions.assertThat(first).isEqualTo(second);
+            Assertions.assertThat(first.hashCode()).isEqualTo(second.hashCode());
+            Assertions.assertThat(first.allMoves()).containsExactlyElementsOf(List.of(
+                new Move(List.of(Direction.S, Direction.E)),
+                new Move(List.of(Direction.N))
+            ));
+        }
+
+        @Test
+        @DisplayName("long history should keep the player and the last direction")
+        void shouldHandleLongHistory() {
+            var history = moveLog;
+            for (int i = 0; i < 10_000; i++) {
+                history = history.add(Direction.N).addMove(new Move(List.of(Direction.S)));
+            }
+
+            Assertions.assertThat(history.currentPlayer()).isTrue();
+            Assertions.assertThat(history.getLastDirection()).contains(Direction.S);
+            Assertions.assertThat(history.allMoves()).hasSize(10_000);
+        }
+    }
 }
@@ -0,0 +1,58 @@
+package com.github.lipinskipawel.board.engine;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.lipinskipawel.board.engine.Direction.E;
+import static com.github.lipinskipawel.board.engine.Direction.N;
+import static com.github.lipinskipawel.board.engine.Direction.SW;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("Internal -- MovePath")
+class MovePathTest {
+
+    @Test
+    @DisplayName("should create move from all appended directions")
+    void shouldCreateMoveFromAppendedDirections() {
+        final var path = MovePath.empty().append(N).append(E).append(SW);
+
+        assertAll(
+            () -> Assertions.assertThat(path.length()).isEqualTo(3),
+            () -> Assertions.assertThat(path.toMove()).isEqualTo(new Move(List.of(N, E, SW)))
+        );
+    }
+
+    @Test
+    @DisplayName("should not change path when directions are appended to it")
+    void shouldNotChangeSharedPrefix() {
+        final var prefix = MovePath.empty().append(N);
+
+        final var first = prefix.append(E);
+        final var second = prefix.append(SW);
+
+        assertAll(
+            () -> Assertions.assertThat(prefix.toMove()).isEqualTo(new Move(List.of(N))),
+            () -> Assertions.assertThat(first.toMove()).isEqualTo(new Move(List.of(N, E))),
+            () -> Assertions.assertThat(second.toMove()).isEqualTo(new Move(List.of(N, SW))),
+            () -> Assertions.assertThat(MovePath.empty().toMove()).isEqualTo(Move.emptyMove())
+        );
+    }
+
+    @Test
+    @DisplayName("should create long move")
+    void shouldCreateLongMove() {
+        final var directions = new ArrayList<Direction>();
+        var path = MovePath.empty();
+        for (int i = 0; i < 50; i++) {
+            final var direction = Geometry.DIRECTIONS[i % Geometry.DIRECTIONS.length];
+            directions.add(direction);
+            path = path.append(direction);
+        }
+
+        Assertions.assertThat(path.toMove()).isEqualTo(new Move(directions));
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.lipinskipawel.board.engine;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.lipinskipawel.board.engine.Direction.E;
+import static com.github.lipinskipawel.board.engine.Direction.N;
+import static com.github.lipinskipawel.board.engine.Direction.NW;
+import static com.github.lipinskipawel.board.engine.Direction.S;
+import static com.github.lipinskipawel.board.engine.Direction.SW;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("API -- Move")
+class MoveTest {
+
+    @Nested
+    @DisplayName("directions")
+    class Directions {
+
+        @Test
+        @DisplayName("should give directions in the same order")
+        void shouldGiveDirectionsInOrder() {
+            final var move = new Move(List.of(N, E, SW));
+
+            assertAll(
+                () -> Assertions.assertThat(move.length()).isEqualTo(3),
+                () -> Assertions.assertThat(move.directionAt(0)).isEqualTo(N),
+                () -> Assertions.assertThat(move.directionAt(1)).isEqualTo(E),
+                () -> Assertions.assertThat(move.directionAt(2)).isEqualTo(SW),
+                () -> Assertions.assertThat(move.getMove()).containsExactlyElementsOf(List.of(N, E, SW))
+            );
+        }
+
+        @Test
+        @DisplayName("should keep directions of the long move")
+        void shouldKeepDirectionsOfLongMove() {
+            final var directions = new ArrayList<Direction>();
+            for (int i = 0; i < 50; i++) {
+                directions.add(Direction.values()[i % 8]);
+            }
+
+            final var move = new Move(directions);
+
+            final var visited = new ArrayList<Direction>();
+            move.forEachDirection(visited::add);
+            assertAll(
+                () -> Assertions.assertThat(move.length()).isEqualTo(50),
+                () -> Assertions.assertThat(move.directionAt(49)).isEqualTo(directions.get(49)),
+                () -> Assertions.assertThat(visited).containsExactlyElementsOf(directions)
+            );
+        }
+
+        @Test
+        @DisplayName("should throw when index is out of the move")
+        void shouldThrowWhenIndexIsOutOfMove() {
+            final var move = new Move(List.of(N));
+
+            assertAll(
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> move.directionAt(1)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> move.directionAt(-1)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> Move.emptyMove().directionAt(0))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("equality")
+    class Equality {
+
+        @Test
+        @DisplayName("should be equal for the same directions")
+        void shouldBeEqualForSameDirections() {
+            final var first = new Move(List.of(S, NW, E));
+            final var second = new Move(List.of(S, NW, E));
+
+            assertAll(
+                () -> Assertions.assertThat(first).isEqualTo(second),
+                () -> Assertions.assertThat(first.hashCode()).isEqualTo(second.hashCode())
+            );
+        }
+
+        @Test
+        @DisplayName("should not be equal when one move is the beginning of the other")
+        void shouldNotBeEqualForPrefix() {
+            final var first = new Move(List.of(N, N));
+            final var second = new Move(List.of(N, N, N));
+
+            assertAll(
+                () -> Assertions.assertThat(first).isNotEqualTo(second),
+                () -> Assertions.assertThat(Move.emptyMove()).isNotEqualTo(new Move(List.of(N)))
+            );
+        }
+    }
+}
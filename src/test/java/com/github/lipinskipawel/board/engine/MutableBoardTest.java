@@ -0,0 +1,262 @@
+package com.github.lipinskipawel.board.engine;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.lipinskipawel.board.engine.Direction.E;
+import static com.github.lipinskipawel.board.engine.Direction.N;
+import static com.github.lipinskipawel.board.engine.Direction.NE;
+import static com.github.lipinskipawel.board.engine.Direction.NW;
+import static com.github.lipinskipawel.board.engine.Direction.S;
+import static com.github.lipinskipawel.board.engine.Direction.SE;
+import static com.github.lipinskipawel.board.engine.Direction.SW;
+import static com.github.lipinskipawel.board.engine.Direction.W;
+import static com.github.lipinskipawel.board.engine.Player.FIRST;
+import static com.github.lipinskipawel.board.engine.Player.SECOND;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("API -- MutableBoard")
+class MutableBoardTest {
+
+    @Nested
+    @DisplayName("make")
+    class Make {
+
+        @Test
+        @DisplayName("should switch player after move")
+        void shouldSwitchPlayerAfterMove() {
+            final var board = Boards.mutableBoard();
+
+            board.make(N);
+
+            assertAll(
+                () -> Assertions.assertThat(board.getPlayer()).isEqualTo(SECOND),
+                () -> Assertions.assertThat(board.getBallPosition()).isEqualTo(49)
+            );
+        }
+
+        @Test
+        @DisplayName("should not make a move which is not allowed")
+        void shouldNotMakeNotAllowedMove() {
+            final var board = Boards.mutableBoard();
+            board.make(N);
+
+            final var made = board.make(S);
+
+            assertAll(
+                () -> Assertions.assertThat(made).isFalse(),
+                () -> Assertions.assertThat(board.getBallPosition()).isEqualTo(49)
+            );
+        }
+
+        @Test
+        @DisplayName("should not switch player when making small move")
+        void shouldNotSwitchPlayerWhenMakingSmallMove() {
+            final var board = Boards.mutableBoard();
+
+            board.make(N);
+            board.make(W);
+            board.make(SE);
+
+            Assertions.assertThat(board.getPlayer()).isEqualTo(FIRST);
+        }
+
+        @Test
+        @DisplayName("should give Second player when First hits the corner")
+        void firstHitsTheCorner() {
+            final var board = Boards.mutableBoard();
+
+            List.of(NE, NE, NE, N, NE).forEach(board::make);
+
+            assertAll(
+                () -> Assertions.assertThat(board.isGameOver()).isTrue(),
+                () -> Assertions.assertThat(board.takeTheWinner().get()).isEqualTo(SECOND)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("unmake")
+    class Unmake {
+
+        @Test
+        @DisplayName("should throw when there is nothing to unmake")
+        void shouldThrowWhenNothingToUnmake() {
+            final var board = Boards.mutableBoard(Boards.immutableBoard().executeMove(N));
+
+            assertThrows(RuntimeException.class, board::unmake);
+        }
+
+        @Test
+        @DisplayName("should restore state after make and unmake")
+        void shouldRestoreState() {
+            final var board = Boards.mutableBoard();
+            List.of(N, E, SW, SW, E).forEach(board::make);
+
+            for (int i = 0; i < 5; i++) {
+                board.unmake();
+            }
+
+            assertAll(
+                () -> Assertions.assertThat(board.canUnmake()).isFalse(),
+                () -> Assertions.assertThat(board.getPlayer()).isEqualTo(FIRST),
+                () -> Assertions.assertThat(board.getBallPosition()).isEqualTo(58),
+                () -> Assertions.assertThat(board.toBoard().transform()).containsExactly(Boards.immutableBoard().transform())
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("conversion")
+    class Conversion {
+
+        @Test
+        @DisplayName("should keep state of converted board")
+        void shouldKeepStateOfConvertedBoard() {
+            final var immutable = Boards.immutableBoard()
+                .executeMove(N)
+                .executeMove(E)
+                .executeMove(SW);
+
+            final var board = Boards.mutableBoard(immutable);
+
+            assertAll(
+                () -> Assertions.assertThat(board.getPlayer()).isEqualTo(immutable.getPlayer()),
+                () -> Assertions.assertThat(board.getBallPosition()).isEqualTo(immutable.getBallPosition()),
+                () -> Assertions.assertThat(board.isMoveAllowed(N)).isFalse(),
+                () -> Assertions.assertThat(board.isMoveAllowed(NE)).isFalse(),
+                () -> Assertions.assertThat(board.isMoveAllowed(NW)).isTrue()
+            );
+        }
+
+        @Test
+        @DisplayName("should convert back to the board with executed moves")
+        void shouldConvertBackToBoard() {
+            final var board = Boards.mutableBoard(Boards.bitBoard().executeMove(N));
+            board.make(E);
+            board.make(SW);
+            board.make(SE);
+            board.unmake();
+
+            final var converted = board.toBoard();
+
+            Assertions.assertThat(converted).isEqualTo(Boards.bitBoard().executeMove(N).executeMove(E).executeMove(SW));
+        }
+
+        @Test
+        @DisplayName("should keep points and position key of converted immutable board")
+        void shouldKeepPointsAndKeyOfImmutableBoard() {
+            final var games = new RandomGames(59);
+            Board<Player> immutable = Boards.immutableBoard();
+            for (int step = 0; step < 40 && !immutable.isGameOver(); step++) {
+                immutable = immutable.executeMove(games.nextDirection());
+                final var board = Boards.mutableBoard(immutable);
+
+                Assertions.assertThat(board.positionKey()).isEqualTo(immutable.positionKey());
+                Assertions.assertThat(board.toBoard().transform()).containsExactly(immutable.transform());
+            }
+        }
+
+        @Test
+        @DisplayName("random games should be seen the same as by the immutable board")
+        void shouldBehaveLikeImmutableBoard() {
+            final var games = new RandomGames(58);
+            for (int game = 0; game < 50; game++) {
+                Board<Player> immutable = Boards.immutableBoard();
+                final var mutable = Boards.mutableBoard();
+                for (int step = 0; step < 60 && !immutable.isGameOver(); step++) {
+                    if (games.nextIsUndo() && mutable.canUnmake()) {
+                        immutable = immutable.undo();
+                        mutable.unmake();
+                    } else {
+                        final var direction = games.nextDirection();
+                        immutable = immutable.executeMove(direction);
+                        mutable.make(direction);
+                    }
+                    Assertions.assertThat(mutable.getBallPosition()).isEqualTo(immutable.getBallPosition());
+                    Assertions.assertThat(mutable.getPlayer()).isEqualTo(immutable.getPlayer());
+                    Assertions.assertThat(mutable.isGameOver()).isEqualTo(immutable.isGameOver());
+                    Assertions.assertThat(mutable.takeTheWinner()).isEqualTo(immutable.takeTheWinner());
+                }
+                Assertions.assertThat(mutable.toBoard().transform()).containsExactly(immutable.transform());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("forEachLegalMove")
+    class ForEachLegalMove {
+
+        @Test
+        @DisplayName("should find the same moves as legal moves future")
+        void shouldFindTheSameMovesAsFuture() {
+            final var games = new RandomGames(11);
+            for (int game = 0; game < 20; game++) {
+                final var board = games.play(Boards.immutableBoard(), 12);
+                final var future = board.allLegalMovesFuture();
+                future.start(Duration.ofSeconds(10));
+                final var expected = new ArrayList<Move>();
+                while (future.isRunning()) {
+                    expected.addAll(future.partialResult());
+                }
+                expected.addAll(future.partialResult());
+                final var found = new ArrayList<Move>();
+
+                Boards.mutableBoard(board).forEachLegalMove(found::add);
+
+                Assertions.assertThat(found).containsExactlyElementsOf(expected);
+            }
+        }
+
+        @Test
+        @DisplayName("should not change the state of the board")
+        void shouldNotChangeState() {
+            final var board = Boards.mutableBoard(Boards.immutableBoard().executeMove(N).executeMove(E));
+            final var positionKey = board.positionKey();
+
+            board.forEachLegalMove(move -> {
+            });
+
+            assertAll(
+                () -> Assertions.assertThat(board.positionKey()).isEqualTo(positionKey),
+                () -> Assertions.assertThat(board.getBallPosition()).isEqualTo(50),
+                () -> Assertions.assertThat(board.canUnmake()).isFalse()
+            );
+        }
+
+        @Test
+        @DisplayName("should find a move for every allowed direction at the beginning of the game")
+        void shouldFindMoveForEveryDirection() {
+            final var found = new ArrayList<Move>();
+
+            Boards.mutableBoard().forEachLegalMove(found::add);
+
+            Assertions.assertThat(found).containsExactly(
+                new Move(List.of(N)), new Move(List.of(NE)), new Move(List.of(E)), new Move(List.of(SE)),
+                new Move(List.of(S)), new Move(List.of(SW)), new Move(List.of(W)), new Move(List.of(NW))
+            );
+        }
+
+        @Test
+        @DisplayName("should stop when the action returns false")
+        void shouldStopWhenActionReturnsFalse() {
+            final var board = Boards.mutableBoard();
+            final var found = new ArrayList<Move>();
+
+            final var visitedAll = board.forEachLegalMoveWhile(move -> found.add(move) && found.size() < 3);
+
+            assertAll(
+                () -> Assertions.assertThat(visitedAll).isFalse(),
+                () -> Assertions.assertThat(found).hasSize(3),
+                () -> Assertions.assertThat(board.canUnmake()).isFalse()
+            );
+        }
+    }
+}
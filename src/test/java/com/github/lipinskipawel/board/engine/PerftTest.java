@@ -0,0 +1,115 @@
+package com.github.lipinskipawel.board.engine;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.github.lipinskipawel.board.engine.Direction.E;
+import static com.github.lipinskipawel.board.engine.Direction.N;
+import static com.github.lipinskipawel.board.engine.Direction.NE;
+import static com.github.lipinskipawel.board.engine.Direction.S;
+import static com.github.lipinskipawel.board.engine.Direction.SW;
+import static com.github.lipinskipawel.board.engine.Direction.W;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Counts of the canonical positions are a regression suite. Every new representation of the board must give exactly
+ * the same counts.
+ */
+@DisplayName("API -- perft")
+class PerftTest {
+
+    @Nested
+    @DisplayName("canonical positions")
+    class CanonicalPositions {
+
+        @Test
+        @DisplayName("initial position")
+        void initialPosition() {
+            assertPerft(Boards.immutableBoard(), 1, 8, 56, 512, 5478);
+            assertPerft(Boards.bitBoard(), 1, 8, 56, 512, 5478);
+        }
+
+        @Test
+        @DisplayName("two moves, one point of contact")
+        void twoMoves() {
+            assertPerft(Boards.immutableBoard().executeMove(N).executeMove(E), 1, 12, 121, 1641, 25734);
+            assertPerft(Boards.bitBoard().executeMove(N).executeMove(E), 1, 12, 121, 1641, 25734);
+        }
+
+        @Test
+        @DisplayName("during small move")
+        void duringSmallMove() {
+            assertPerft(Boards.immutableBoard().executeMove(N).executeMove(E).executeMove(SW), 1, 6, 58, 642, 8652);
+            assertPerft(Boards.bitBoard().executeMove(N).executeMove(E).executeMove(SW), 1, 6, 58, 642, 8652);
+        }
+
+        @Test
+        @DisplayName("four moves, close to corner")
+        void closeToCorner() {
+            final var board = Boards.immutableBoard()
+                .executeMove(NE)
+                .executeMove(NE)
+                .executeMove(N)
+                .executeMove(NE);
+
+            assertPerft(board, 1, 25, 819, 104402);
+            assertPerft(Boards.mutableBoard(board).toBoard(), 1, 25, 819, 104402);
+        }
+
+        @Test
+        @DisplayName("complicated board")
+        void complicatedBoard() {
+            var board = Boards.immutableBoard();
+            for (var direction : new Direction[]{N, N, N, N, W, S, S, S, S, S, S, S, S, E, E, N, N, N, N, N, N}) {
+                board = board.executeMove(direction);
+            }
+
+            assertPerft(board, 1, 212376);
+        }
+    }
+
+    @Test
+    @DisplayName("countLegalMoves should be equal to the number of legal moves")
+    void countShouldBeEqualToNumberOfLegalMoves() {
+        final var games = new RandomGames(16);
+        for (int game = 0; game < 20; game++) {
+            final var board = games.play(Boards.bitBoard(), 12);
+
+            Assertions.assertThat(board.countLegalMoves()).isEqualTo(board.allLegalMoves().size());
+        }
+    }
+
+    @Test
+    @DisplayName("perft should be equal to the sum of perft of positions after every legal move")
+    void perftShouldBeEqualToSumOfPerftAfterMoves() {
+        final var board = Boards.immutableBoard().executeMove(N).executeMove(S).executeMove(S);
+        var sum = 0L;
+        for (var move : board.allLegalMoves()) {
+            sum += board.executeMove(move).perft(2);
+        }
+
+        Assertions.assertThat(board.perft(3)).isEqualTo(sum);
+    }
+
+    @Test
+    @DisplayName("should throw exception for negative depth")
+    void shouldThrowExceptionForNegativeDepth() {
+        assertThrows(IllegalArgumentException.class, () -> Boards.immutableBoard().perft(-1));
+    }
+
+    private static void assertPerft(final Board<?> board, final long... expected) {
+        final var mutable = Boards.mutableBoard(board);
+        final var key = mutable.positionKey();
+        for (int depth = 0; depth < expected.length; depth++) {
+            final var finalDepth = depth;
+            assertAll(
+                () -> Assertions.assertThat(board.perft(finalDepth)).isEqualTo(expected[finalDepth]),
+                () -> Assertions.assertThat(mutable.perft(finalDepth)).isEqualTo(expected[finalDepth])
+            );
+        }
+        Assertions.assertThat(mutable.positionKey()).isEqualTo(key);
+    }
+}
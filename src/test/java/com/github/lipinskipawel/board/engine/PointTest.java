@@ -5,6 +5,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
+
 @DisplayName("API -- Point")
 class PointTest {
 
@@ -53,4 +55,59 @@ class PointTest {
                 .isInstanceOf(RuntimeException.class);
         }
     }
+
+    @Nested
+    @DisplayName("directions")
+    class Directions {
+
+        @Test
+        @DisplayName("should give allowed and unavailable directions")
+        void shouldGiveAllowedAndUnavailableDirections() {
+            final var point = new Point(50);
+
+            point.notAvailableDirections(Direction.N, Direction.SW);
+
+            assertAll(
+                () -> Assertions.assertThat(point.getAllowedDirection())
+                    .containsExactly(Direction.NE, Direction.E, Direction.SE, Direction.S, Direction.W, Direction.NW),
+                () -> Assertions.assertThat(point.getUnavailableDirection()).containsExactly(Direction.N, Direction.SW),
+                () -> Assertions.assertThat(point.countAllowedDirections()).isEqualTo(6)
+            );
+        }
+
+        @Test
+        @DisplayName("should not change original point when creating point with not available direction")
+        void shouldNotChangeOriginalPoint() {
+            final var point = new Point(50);
+
+            final var changed = point.notAvailableDirection(Direction.E);
+
+            assertAll(
+                () -> Assertions.assertThat(point.isAvailable(Direction.E)).isTrue(),
+                () -> Assertions.assertThat(changed.isAvailable(Direction.E)).isFalse(),
+                () -> Assertions.assertThat(changed.getUnavailableDirection()).containsExactly(Direction.E)
+            );
+        }
+
+        @Test
+        @DisplayName("should make direction available again")
+        void shouldMakeDirectionAvailableAgain() {
+            final var point = new Point(50);
+            point.notAvailableDirections(Direction.values());
+
+            point.setAvailableDirections(Direction.W);
+
+            assertAll(
+                () -> Assertions.assertThat(point.getAllowedDirection()).containsExactly(Direction.W),
+                () -> Assertions.assertThat(point.kickBallTo(49)).isEqualByComparingTo(Direction.W),
+                () -> Assertions.assertThat(point).isEqualTo(new Point(50).notAvailableDirection(Direction.N)
+                    .notAvailableDirection(Direction.NE)
+                    .notAvailableDirection(Direction.E)
+                    .notAvailableDirection(Direction.SE)
+                    .notAvailableDirection(Direction.S)
+                    .notAvailableDirection(Direction.SW)
+                    .notAvailableDirection(Direction.NW))
+            );
+        }
+    }
 }
@@ -0,0 +1,94 @@
+package com.github.lipinskipawel.board.engine;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.github.lipinskipawel.board.engine.Direction.E;
+import static com.github.lipinskipawel.board.engine.Direction.N;
+import static com.github.lipinskipawel.board.engine.Direction.NE;
+import static com.github.lipinskipawel.board.engine.Direction.NW;
+import static com.github.lipinskipawel.board.engine.Direction.S;
+import static com.github.lipinskipawel.board.engine.Direction.SE;
+import static com.github.lipinskipawel.board.engine.Direction.SW;
+import static com.github.lipinskipawel.board.engine.Direction.W;
+import static com.github.lipinskipawel.board.engine.Player.SECOND;
+
+@DisplayName("API -- positionKey")
+class PositionKeyTest {
+
+    @Test
+    @DisplayName("should have the same key for the same position reached by different orders of moves")
+    void shouldHaveSameKeyForTransposedMoves() {
+        final var board = Boards.immutableBoard();
+
+        final var first = board.executeMove(N).executeMove(E).executeMove(S).executeMove(W);
+        final var second = board.executeMove(E).executeMove(N).executeMove(W).executeMove(S);
+
+        Assertions.assertThat(first.positionKey()).isEqualTo(second.positionKey());
+    }
+
+    @Test
+    @DisplayName("should restore the key after undo")
+    void shouldRestoreKeyAfterUndo() {
+        final var board = Boards.immutableBoard().executeMove(N);
+
+        final var afterUndo = board.executeMove(NE).executeMove(E).undo().undo();
+
+        Assertions.assertThat(afterUndo.positionKey()).isEqualTo(board.positionKey());
+    }
+
+    @Test
+    @DisplayName("should have different key when the other player is to move")
+    void shouldHaveDifferentKeyForOtherPlayer() {
+        final var board = Boards.immutableBoard();
+
+        final var otherPlayer = board.nextPlayerToMove(SECOND);
+
+        Assertions.assertThat(otherPlayer.positionKey()).isNotEqualTo(board.positionKey());
+    }
+
+    @Test
+    @DisplayName("random games should have the same keys for every board implementation")
+    void shouldHaveSameKeysForEveryImplementation() {
+        final var games = new RandomGames(3);
+        for (int game = 0; game < 50; game++) {
+            Board<Player> immutable = Boards.immutableBoard();
+            Board<Player> bitBoard = Boards.bitBoard();
+            final var mutable = Boards.mutableBoard();
+            for (int step = 0; step < 60 && !immutable.isGameOver(); step++) {
+                if (games.nextIsUndo() && mutable.canUnmake()) {
+                    immutable = immutable.undo();
+                    bitBoard = bitBoard.undo();
+                    mutable.unmake();
+                } else {
+                    final var direction = games.nextDirection();
+                    immutable = immutable.executeMove(direction);
+                    bitBoard = bitBoard.executeMove(direction);
+                    mutable.make(direction);
+                }
+                Assertions.assertThat(bitBoard.positionKey()).isEqualTo(immutable.positionKey());
+                Assertions.assertThat(mutable.positionKey()).isEqualTo(immutable.positionKey());
+            }
+            Assertions.assertThat(Boards.mutableBoard(immutable).positionKey()).isEqualTo(immutable.positionKey());
+        }
+    }
+
+    @Test
+    @DisplayName("should have different keys for different positions")
+    void shouldHaveDifferentKeysForDifferentPositions() {
+        final var board = Boards.immutableBoard();
+
+        final var keys = List.of(
+            board.positionKey(),
+            board.executeMove(N).positionKey(),
+            board.executeMove(S).positionKey(),
+            board.executeMove(NW).positionKey(),
+            board.executeMove(SW).positionKey()
+        );
+
+        Assertions.assertThat(keys).doesNotHaveDuplicates();
+    }
+}
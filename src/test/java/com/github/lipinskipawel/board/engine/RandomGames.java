@@ -0,0 +1,47 @@
+package com.github.lipinskipawel.board.engine;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeded source of random games shared by tests which compare the same positions seen in different ways. The same seed
+ * always gives the same games.
+ */
+final class RandomGames {
+    private final Random random;
+
+    RandomGames(final long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Executes random directions one after another. Directions which are not allowed do not change the board.
+     *
+     * @param board to start from
+     * @param steps maximum number of executed directions
+     * @param <T>   type of the player
+     * @return board after the given number of directions or the first board on which the game is over
+     */
+    <T> Board<T> play(final Board<T> board, final int steps) {
+        var afterMoves = board;
+        for (int step = 0; step < steps && !afterMoves.isGameOver(); step++) {
+            afterMoves = afterMoves.executeMove(nextDirection());
+        }
+        return afterMoves;
+    }
+
+    Direction nextDirection() {
+        return Direction.values()[this.random.nextInt(Direction.values().length)];
+    }
+
+    /**
+     * @return true once in ten calls on average, used by games which sometimes undo the last direction
+     */
+    boolean nextIsUndo() {
+        return this.random.nextInt(10) == 0;
+    }
+
+    <E> E nextOf(final List<E> elements) {
+        return elements.get(this.random.nextInt(elements.size()));
+    }
+}
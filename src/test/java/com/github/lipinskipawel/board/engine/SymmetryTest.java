@@ -0,0 +1,150 @@
+package com.github.lipinskipawel.board.engine;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.github.lipinskipawel.board.engine.Direction.E;
+import static com.github.lipinskipawel.board.engine.Direction.N;
+import static com.github.lipinskipawel.board.engine.Direction.NE;
+import static com.github.lipinskipawel.board.engine.Direction.NW;
+import static com.github.lipinskipawel.board.engine.Direction.S;
+import static com.github.lipinskipawel.board.engine.Direction.SE;
+import static com.github.lipinskipawel.board.engine.Direction.SW;
+import static com.github.lipinskipawel.board.engine.Direction.W;
+import static com.github.lipinskipawel.board.engine.Player.FIRST;
+import static com.github.lipinskipawel.board.engine.Player.SECOND;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("API -- Symmetry")
+class SymmetryTest {
+
+    @Nested
+    @DisplayName("directions and moves")
+    class DirectionsAndMoves {
+
+        @Test
+        @DisplayName("should map directions")
+        void shouldMapDirections() {
+            assertAll(
+                () -> Assertions.assertThat(Symmetry.MIRROR.apply(W)).isEqualTo(E),
+                () -> Assertions.assertThat(Symmetry.MIRROR.apply(NW)).isEqualTo(NE),
+                () -> Assertions.assertThat(Symmetry.MIRROR.apply(N)).isEqualTo(N),
+                () -> Assertions.assertThat(Symmetry.ROTATION.apply(NW)).isEqualTo(SE),
+                () -> Assertions.assertThat(Symmetry.MIRROR_ROTATION.apply(NW)).isEqualTo(SW),
+                () -> Assertions.assertThat(Symmetry.IDENTITY.apply(SW)).isEqualTo(SW)
+            );
+        }
+
+        @Test
+        @DisplayName("every symmetry should be its own inverse")
+        void everySymmetryShouldBeItsOwnInverse() {
+            final var move = new Move(List.of(N, NE, E, SE, S, SW, W, NW));
+
+            for (var symmetry : Symmetry.values()) {
+                Assertions.assertThat(symmetry.apply(symmetry.apply(move))).isEqualTo(move);
+            }
+        }
+
+        @Test
+        @DisplayName("initial position should be symmetric")
+        void initialPositionShouldBeSymmetric() {
+            for (var symmetry : Symmetry.values()) {
+                for (int position = 0; position < Geometry.NUMBER_OF_POINTS; position++) {
+                    for (var direction : Direction.values()) {
+                        final var available = (Geometry.initialMask(position) >>> Geometry.bit(direction) & 1) == 1;
+                        final var mapped = symmetry.apply(position);
+                        final var mappedAvailable =
+                            (Geometry.initialMask(mapped) >>> Geometry.bit(symmetry.apply(direction)) & 1) == 1;
+                        Assertions.assertThat(mappedAvailable).isEqualTo(available);
+                    }
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("boards")
+    class Positions {
+
+        @Test
+        @DisplayName("should mirror the board")
+        void shouldMirrorBoard() {
+            final var board = Boards.immutableBoard()
+                .executeMove(NW)
+                .executeMove(W);
+
+            final var mirrored = Symmetry.MIRROR.apply(board);
+
+            assertAll(
+                () -> Assertions.assertThat(mirrored.getBallPosition()).isEqualTo(Symmetry.MIRROR.apply(board.getBallPosition())),
+                () -> Assertions.assertThat(mirrored.getPlayer()).isEqualTo(board.getPlayer()),
+                () -> Assertions.assertThat(mirrored.allMoves()).containsExactlyElementsOf(List.of(NE, E))
+            );
+        }
+
+        @Test
+        @DisplayName("should rotate the board and change the player to move")
+        void shouldRotateBoard() {
+            final var board = Boards.immutableBoard().executeMove(N);
+
+            final var rotated = Symmetry.ROTATION.apply(board);
+
+            assertAll(
+                () -> Assertions.assertThat(board.getPlayer()).isEqualTo(SECOND),
+                () -> Assertions.assertThat(rotated.getPlayer()).isEqualTo(FIRST),
+                () -> Assertions.assertThat(rotated.getBallPosition()).isEqualTo(67),
+                () -> Assertions.assertThat(rotated.allMoves()).containsExactlyElementsOf(List.of(S))
+            );
+        }
+
+        @Test
+        @DisplayName("should keep the winner of the rotated game for the equivalent player")
+        void shouldKeepWinnerForEquivalentPlayer() {
+            final var board = Boards.immutableBoard()
+                .executeMove(new Move(List.of(N, N, N, N, N, N)));
+
+            final var rotated = Symmetry.ROTATION.apply(board);
+
+            assertAll(
+                () -> Assertions.assertThat(board.takeTheWinner()).contains(FIRST),
+                () -> Assertions.assertThat(rotated.takeTheWinner()).contains(SECOND)
+            );
+        }
+
+        @Test
+        @DisplayName("random boards should have the same canonical board as their transformations")
+        void shouldHaveTheSameCanonicalBoard() {
+            final var games = new RandomGames(10);
+            for (int game = 0; game < 20; game++) {
+                final var board = games.play(Boards.bitBoard(), 30);
+                final var canonical = Symmetry.canonical(board);
+
+                for (var symmetry : Symmetry.values()) {
+                    final var transformed = symmetry.apply(board);
+                    assertSymmetricPoints(board, transformed, symmetry);
+                    Assertions.assertThat(Symmetry.canonical(transformed).board().positionKey())
+                        .isEqualTo(canonical.board().positionKey());
+                    Assertions.assertThat(symmetry.apply(transformed).positionKey()).isEqualTo(board.positionKey());
+                }
+                Assertions.assertThat(canonical.symmetry().apply(canonical.board()).positionKey())
+                    .isEqualTo(board.positionKey());
+            }
+        }
+    }
+
+    private static void assertSymmetricPoints(final Board<?> board, final Board<?> transformed, final Symmetry symmetry) {
+        final var original = board.transform();
+        final var mapped = transformed.transform();
+        for (int position = 0; position < Geometry.NUMBER_OF_POINTS; position++) {
+            for (var direction : Direction.values()) {
+                final var index = position * 8 + Geometry.bit(direction);
+                final var mappedIndex = symmetry.apply(position) * 8 + Geometry.bit(symmetry.apply(direction));
+                Assertions.assertThat(mapped[mappedIndex]).isEqualTo(original[index]);
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.nio.FloatBuffer;
 import java.util.List;
 
 import static com.github.lipinskipawel.board.engine.Direction.E;
@@ -140,4 +141,81 @@ class TransformationTest {
             Assertions.assertThat(doubles).containsExactly(preparedDoubles);
         }
     }
+
+    @Nested
+    @DisplayName("writing into destination")
+    class WritingIntoDestination {
+
+        private final Board<Player> board = Boards.immutableBoard()
+            .executeMove(N)
+            .executeMove(E)
+            .executeMove(SW);
+
+        @Test
+        @DisplayName("should write the same values as transform at the given offset")
+        void shouldWriteTheSameValuesAtOffset() {
+            final var expected = board.transform();
+            final var offset = 5;
+            final var ints = new int[offset + Board.TRANSFORMATION_LENGTH];
+            final var floats = new float[offset + Board.TRANSFORMATION_LENGTH];
+            final var doubles = new double[offset + Board.TRANSFORMATION_LENGTH];
+            final var buffer = FloatBuffer.allocate(offset + Board.TRANSFORMATION_LENGTH);
+
+            final var written = board.transform(ints, offset);
+            board.transform(floats, offset);
+            board.transform(doubles, offset);
+            board.transform(buffer, offset);
+
+            Assertions.assertThat(written).isEqualTo(Board.TRANSFORMATION_LENGTH);
+            Assertions.assertThat(buffer.position()).isEqualTo(0);
+            for (int i = 0; i < expected.length; i++) {
+                Assertions.assertThat(ints[offset + i]).isEqualTo(expected[i]);
+                Assertions.assertThat(floats[offset + i]).isEqualTo((float) expected[i]);
+                Assertions.assertThat(doubles[offset + i]).isEqualTo((double) expected[i]);
+                Assertions.assertThat(buffer.get(offset + i)).isEqualTo((float) expected[i]);
+            }
+        }
+
+        @Test
+        @DisplayName("should write the same values as nonBinaryTransformation at the given offset")
+        void shouldWriteTheSameNonBinaryValuesAtOffset() {
+            final var expected = board.nonBinaryTransformation();
+            final var doubles = new double[2 * Board.TRANSFORMATION_LENGTH];
+            final var floats = new float[2 * Board.TRANSFORMATION_LENGTH];
+
+            board.nonBinaryTransformation(doubles, Board.TRANSFORMATION_LENGTH);
+            board.nonBinaryTransformation(floats, Board.TRANSFORMATION_LENGTH);
+
+            for (int i = 0; i < expected.length; i++) {
+                Assertions.assertThat(doubles[Board.TRANSFORMATION_LENGTH + i]).isEqualTo(expected[i]);
+                Assertions.assertThat(floats[Board.TRANSFORMATION_LENGTH + i]).isEqualTo((float) expected[i]);
+            }
+        }
+
+        @Test
+        @DisplayName("bit board should write the same values as immutable board")
+        void bitBoardShouldWriteTheSameValues() {
+            final var bitBoard = Boards.bitBoard()
+                .executeMove(N)
+                .executeMove(E)
+                .executeMove(SW);
+            final var expected = new int[Board.TRANSFORMATION_LENGTH];
+            final var actual = new int[Board.TRANSFORMATION_LENGTH];
+
+            board.transform(expected, 0);
+            bitBoard.transform(actual, 0);
+
+            Assertions.assertThat(actual).containsExactly(expected);
+        }
+
+        @Test
+        @DisplayName("should throw when destination is too small")
+        void shouldThrowWhenDestinationIsTooSmall() {
+            final var ints = new int[Board.TRANSFORMATION_LENGTH];
+
+            final var thrown = Assertions.catchThrowable(() -> board.transform(ints, 1));
+
+            Assertions.assertThat(thrown).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
 }
@@ -0,0 +1,152 @@
+package com.github.lipinskipawel.board.engine;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.github.lipinskipawel.board.engine.Direction.E;
+import static com.github.lipinskipawel.board.engine.Direction.N;
+import static com.github.lipinskipawel.board.engine.Direction.NE;
+import static com.github.lipinskipawel.board.engine.Direction.NW;
+import static com.github.lipinskipawel.board.engine.Direction.S;
+import static com.github.lipinskipawel.board.engine.Direction.SE;
+import static com.github.lipinskipawel.board.engine.Direction.SW;
+import static com.github.lipinskipawel.board.engine.Direction.W;
+import static com.github.lipinskipawel.board.engine.Player.FIRST;
+import static com.github.lipinskipawel.board.engine.Player.SECOND;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("API -- findWinningMove and isEveryMoveLosing")
+class WinningMoveTest {
+
+    @Nested
+    @DisplayName("findWinningMove")
+    class FindWinningMove {
+
+        @Test
+        @DisplayName("should find move to the goal of the opponent")
+        void shouldFindMoveToOpponentGoal() {
+            final var board = Boards.immutableBoard()
+                .executeMove(N)
+                .executeMove(N)
+                .executeMove(N)
+                .executeMove(N);
+
+            final var winningMove = board.findWinningMove();
+
+            assertAll(
+                () -> Assertions.assertThat(winningMove).isPresent(),
+                () -> Assertions.assertThat(board.executeMove(winningMove.get()).takeTheWinner()).contains(FIRST),
+                () -> Assertions.assertThat(Boards.mutableBoard(board).findWinningMove()).isEqualTo(winningMove)
+            );
+        }
+
+        @Test
+        @DisplayName("should not find move to the own goal")
+        void shouldNotFindMoveToOwnGoal() {
+            final var board = Boards.bitBoard()
+                .executeMove(N)
+                .executeMove(N)
+                .executeMove(N)
+                .executeMove(N)
+                .nextPlayerToMove(SECOND);
+
+            assertAll(
+                () -> Assertions.assertThat(board.findWinningMove()).isEmpty(),
+                () -> Assertions.assertThat(board.isEveryMoveLosing()).isFalse()
+            );
+        }
+
+        @Test
+        @DisplayName("should not find any move when the game is over")
+        void shouldNotFindMoveWhenGameIsOver() {
+            final var board = Boards.immutableBoard()
+                .executeMove(N)
+                .executeMove(N)
+                .executeMove(N)
+                .executeMove(N)
+                .executeMove(new Move(List.of(NW, NE)));
+
+            assertAll(
+                () -> Assertions.assertThat(board.isGameOver()).isTrue(),
+                () -> Assertions.assertThat(board.findWinningMove()).isEmpty(),
+                () -> Assertions.assertThat(board.isEveryMoveLosing()).isFalse()
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("isEveryMoveLosing")
+    class IsEveryMoveLosing {
+
+        @Test
+        @DisplayName("should be false at the beginning of the game")
+        void shouldBeFalseAtTheBeginning() {
+            final var board = Boards.immutableBoard();
+
+            assertAll(
+                () -> Assertions.assertThat(board.isEveryMoveLosing()).isFalse(),
+                () -> Assertions.assertThat(board.findWinningMove()).isEmpty()
+            );
+        }
+
+        @Test
+        @DisplayName("should be true when every move gets stuck or goes to the own goal")
+        void shouldBeTrueWhenEveryMoveLoses() {
+            final var moves = List.of(
+                new Move(List.of(SW)), new Move(List.of(SW)), new Move(List.of(E)), new Move(List.of(SW)),
+                new Move(List.of(NW)), new Move(List.of(E, S, S)), new Move(List.of(E)),
+                new Move(List.of(SW, N, SW, NW, NE)), new Move(List.of(NW, E, S, E, SE, S, NW, NE)),
+                new Move(List.of(NW, SW, W, NE, NW, E)), new Move(List.of(NW, E)), new Move(List.of(S, E)),
+                new Move(List.of(S, NW, S, NE, SE, N, W, NW, NW, E)), new Move(List.of(SE)), new Move(List.of(E)),
+                new Move(List.of(E, N)), new Move(List.of(SW, SE)), new Move(List.of(SW, S, W, SW))
+            );
+            var immutableBoard = Boards.immutableBoard();
+            var bitBoard = Boards.bitBoard();
+            for (var move : moves) {
+                immutableBoard = immutableBoard.executeMove(move);
+                bitBoard = bitBoard.executeMove(move);
+            }
+            final var board = immutableBoard;
+            final var packedBoard = bitBoard;
+
+            assertAll(
+                () -> Assertions.assertThat(board.getPlayer()).isEqualTo(FIRST),
+                () -> Assertions.assertThat(board.allLegalMoves()).isNotEmpty(),
+                () -> Assertions.assertThat(board.isEveryMoveLosing()).isTrue(),
+                () -> Assertions.assertThat(packedBoard.isEveryMoveLosing()).isTrue(),
+                () -> Assertions.assertThat(board.findWinningMove()).isEmpty()
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should give the same answers as checking all legal moves")
+    void shouldGiveSameAnswersAsAllLegalMoves() {
+        final var games = new RandomGames(20);
+        for (int game = 0; game < 20; game++) {
+            var board = Boards.bitBoard();
+            for (int step = 0; step < 30 && !board.isGameOver(); step++) {
+                final var player = board.getPlayer();
+                final var moves = board.allLegalMoves();
+                var anyWinning = false;
+                var allLosing = true;
+                for (var move : moves) {
+                    final var winner = board.executeMove(move).takeTheWinner();
+                    anyWinning |= winner.isPresent() && winner.get() == player;
+                    allLosing &= winner.isPresent() && winner.get() != player;
+                }
+
+                Assertions.assertThat(board.findWinningMove().isPresent()).isEqualTo(anyWinning);
+                Assertions.assertThat(board.isEveryMoveLosing()).isEqualTo(allLosing);
+                if (moves.size() > 2000) {
+                    break;
+                }
+                board = board.executeMove(games.nextOf(moves));
+            }
+        }
+    }
+}